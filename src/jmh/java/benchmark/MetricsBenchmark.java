@@ -0,0 +1,67 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mancala.EngineMetrics;
+import mancala.InvalidMoveException;
+import mancala.KalahRules;
+import mancala.UndoRecord;
+
+/**
+ * Benchmarks a Kalah move with the engine metrics off and on, on several
+ * threads at once, to show what recording costs and that turning it off costs
+ * nothing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(2)
+@State(Scope.Thread)
+public class MetricsBenchmark {
+
+    @Param({"false", "true"})
+    private boolean metrics;
+
+    private final KalahRules rules = new KalahRules();
+    private final UndoRecord undo = new UndoRecord();
+    private int nextMove;
+
+    @Setup
+    public void setUp() {
+        if (metrics) {
+            EngineMetrics.enable();
+        } else {
+            EngineMetrics.disable();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        EngineMetrics.disable();
+    }
+
+    @Benchmark
+    public int moveStones() throws InvalidMoveException {
+        // pits 1 to 6 from the start, taken back after each move
+        final int pit = 1 + nextMove++ % 6;
+        rules.applyMove(pit, undo);
+        rules.undoMove(undo);
+        return pit;
+    }
+}
@@ -0,0 +1,70 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mancala.InvalidMoveException;
+import mancala.MancalaGame;
+import mancala.Player;
+import sim.RandomPolicy;
+
+/**
+ * Benchmarks a whole game of random moves through the public MancalaGame API,
+ * from setting up the board to the final store counts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayoutBenchmark {
+
+    /**
+     * The rule set to play.
+     */
+    @Param({"kalah", "ayo"})
+    private String rules;
+
+    /**
+     * The number of stones in each pit at the start.
+     */
+    @Param({"3", "4", "6"})
+    private int stones;
+
+    private final Player playerOne = new Player("one");
+    private final Player playerTwo = new Player("two");
+    private RandomPolicy policy;
+
+    @Setup
+    public void setUp() {
+        // the same seed every trial, so every run plays the same games
+        policy = new RandomPolicy(1);
+    }
+
+    @Benchmark
+    public int randomGame() throws InvalidMoveException {
+        final MancalaGame game = new MancalaGame();
+        if ("ayo".equals(rules)) {
+            game.startAyoGame(stones);
+        } else {
+            game.startKalahGame(stones);
+        }
+        game.setPlayers(playerOne, playerTwo);
+        while (!game.isGameOver()) {
+            game.move(policy.chooseMove(game));
+        }
+        return game.getStoreCount(1) - game.getStoreCount(2);
+    }
+}
@@ -0,0 +1,125 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import mancala.BoardRenderer;
+import mancala.InvalidMoveException;
+import mancala.MancalaDataStructure;
+import mancala.MancalaGame;
+import mancala.Player;
+
+/**
+ * Benchmarks of the text rendering of boards and games. Run with the GC
+ * profiler (the main method, or gradle jmh -Pjmh.include=RenderBenchmark
+ * -Pjmh.prof=gc) to see the bytes allocated by each render next to its time.
+ *
+ * The legacy benchmarks keep the String += rendering that toString used to do,
+ * as the baseline the renderer is measured against.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderBenchmark {
+
+    private MancalaGame game;
+    private MancalaDataStructure board;
+    private final BoardRenderer renderer = new BoardRenderer();
+    private final StringBuilder log = new StringBuilder(BoardRenderer.GAME_CAPACITY);
+
+    @Setup
+    public void setUp() throws InvalidMoveException {
+        game = new MancalaGame();
+        game.startKalahGame();
+        game.setPlayers(new Player("one"), new Player("two"));
+        game.move(3);
+        game.move(8);
+        board = new MancalaDataStructure();
+    }
+
+    @Benchmark
+    public String gameToString() {
+        return game.toString();
+    }
+
+    @Benchmark
+    public String boardToString() {
+        return board.toString();
+    }
+
+    @Benchmark
+    public String rendererGame() {
+        return renderer.renderGame(game);
+    }
+
+    /**
+     * Appends into a reused buffer, as a logger would, so nothing is allocated.
+     */
+    @Benchmark
+    public int appendGame() {
+        log.setLength(0);
+        return BoardRenderer.appendGame(log, game).length();
+    }
+
+    @Benchmark
+    public String legacyGameToString() {
+        String gameString = "\t\t\t\t\tMancala\t\t\t\t\t\n";
+        for (int i = 0; i < 100; i++) {
+            gameString += "-";
+        }
+        gameString += "\n" + legacyBoardString(board) + "\n";
+        for (int i = 0; i < 100; i++) {
+            gameString += "-";
+        }
+        return gameString;
+    }
+
+    @Benchmark
+    public String legacyBoardToString() {
+        return legacyBoardString(board);
+    }
+
+    /*the board rendering toString used before BoardRenderer*/
+    private static String legacyBoardString(final MancalaDataStructure board) {
+        String two = "\t";
+        for (int i = 12; i >= 7; i--) {
+            two += "[" + i + "]: " + board.getNumStones(i) + "\t";
+        }
+        String one = "\n\t\t\t";
+        for (int i = 1; i <= 6; i++) {
+            one += "[" + i + "]: " + board.getNumStones(i) + "\t";
+        }
+        return "Player Two's Store: " + board.getStoreCount(2) + two + one
+            + "   " + "Player One's Store: " + board.getStoreCount(1);
+    }
+
+    /**
+     * Runs these benchmarks with the GC profiler.
+     *
+     * @param args  Unused.
+     * @throws RunnerException If a benchmark fails.
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(RenderBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
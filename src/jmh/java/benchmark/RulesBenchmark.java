@@ -0,0 +1,147 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import mancala.AyoRules;
+import mancala.Countable;
+import mancala.GameNotOverException;
+import mancala.GameRules;
+import mancala.InvalidMoveException;
+import mancala.KalahRules;
+import mancala.MancalaDataStructure;
+import mancala.MancalaGame;
+import mancala.Player;
+import mancala.UndoRecord;
+import sim.RandomPolicy;
+
+/**
+ * Benchmarks of the single operations the rule engines are built from.
+ *
+ * A move changes the board it is played on, so the move benchmarks play a move
+ * with applyMove and take it back with undoMove, cycling through the legal moves
+ * of a fixed mid-game position; undoMove only copies back the slots the move
+ * changed, so the pair is dominated by moveStones itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RulesBenchmark {
+
+    /**
+     * The number of moves played from the start to reach the benchmark position.
+     */
+    private static final int OPENING_MOVES = 6;
+
+    /**
+     * The number of stones in each pit at the start.
+     */
+    @Param({"4", "6"})
+    private int stones;
+
+    private MancalaDataStructure board;
+    private GameRules kalah;
+    private GameRules ayo;
+    private int[] kalahMoves;
+    private int[] ayoMoves;
+    private int nextMove;
+    private final UndoRecord undo = new UndoRecord();
+    private MancalaGame playing;
+    private MancalaGame finished;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InvalidMoveException {
+        board = new MancalaDataStructure(stones);
+        kalah = openedRules(new KalahRules(stones));
+        ayo = openedRules(new AyoRules(stones));
+        kalahMoves = legalPits(kalah);
+        ayoMoves = legalPits(ayo);
+        playing = newGame(stones);
+        finished = newGame(stones);
+        final RandomPolicy policy = new RandomPolicy(1);
+        while (!finished.isGameOver()) {
+            finished.move(policy.chooseMove(finished));
+        }
+    }
+
+    /*helper method to play the opening moves, always from the first legal pit*/
+    private static GameRules openedRules(final GameRules rules) throws InvalidMoveException {
+        for (int i = 0; i < OPENING_MOVES; i++) {
+            rules.applyMove(Integer.numberOfTrailingZeros(rules.generateMoves(rules.getPlayer())));
+        }
+        return rules;
+    }
+
+    /*helper method to list the pits the player to move can play*/
+    private static int[] legalPits(final GameRules rules) {
+        int moves = rules.generateMoves(rules.getPlayer());
+        final int[] pits = new int[Integer.bitCount(moves)];
+        for (int i = 0; i < pits.length; i++) {
+            pits[i] = Integer.numberOfTrailingZeros(moves);
+            moves &= moves - 1;
+        }
+        return pits;
+    }
+
+    /*helper method to start a game between two players*/
+    private static MancalaGame newGame(final int stones) {
+        final MancalaGame game = new MancalaGame();
+        game.startKalahGame(stones);
+        game.setPlayers(new Player("one"), new Player("two"));
+        return game;
+    }
+
+    /**
+     * Walks the iterator once around the board from pit 1, as a sowing does.
+     */
+    @Benchmark
+    public void next(final Blackhole blackhole) {
+        board.setIterator(1, 1, true);
+        for (int i = 0; i < 13; i++) {
+            final Countable countable = board.next();
+            blackhole.consume(countable);
+        }
+    }
+
+    @Benchmark
+    public int kalahMoveStones() throws InvalidMoveException {
+        final int pit = kalahMoves[nextMove++ % kalahMoves.length];
+        kalah.applyMove(pit, undo);
+        kalah.undoMove(undo);
+        return pit;
+    }
+
+    @Benchmark
+    public int ayoMoveStones() throws InvalidMoveException {
+        final int pit = ayoMoves[nextMove++ % ayoMoves.length];
+        ayo.applyMove(pit, undo);
+        ayo.undoMove(undo);
+        return pit;
+    }
+
+    @Benchmark
+    public boolean isGameOver() {
+        return playing.isGameOver();
+    }
+
+    @Benchmark
+    public Player getWinner() throws GameNotOverException {
+        return finished.getWinner();
+    }
+}
@@ -0,0 +1,209 @@
+package mancala;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Saves and loads objects like Saver without blocking the calling thread. Every
+ * call returns a CompletableFuture and the file work happens on a small pool of
+ * daemon threads with a bounded queue; when the queue is full, or the saver is
+ * closed, the calling thread does the work itself, which slows callers down
+ * instead of letting the queue grow.
+ *
+ * The object is encoded when saveObject is called, so later changes to it are not
+ * saved. Saves to the same file are coalesced: while a file has a save waiting,
+ * another save of that file replaces the waiting contents instead of adding a
+ * second write, and both futures complete when the newest contents are on disk.
+ * Saves to one file are written in the order they were made, and a load waits for
+ * the saves to its file made before it.
+ */
+public class AsyncSaver implements Closeable {
+
+    /**
+     * The number of threads used when none is given.
+     */
+    public static final int DEFAULT_THREADS = 2;
+    /**
+     * The number of waiting tasks used when none is given.
+     */
+    public static final int DEFAULT_QUEUE_SIZE = 64;
+
+    /*how long an idle thread is kept, in seconds*/
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private final Saver saver;
+    private final ThreadPoolExecutor executor;
+    /*the files with a save waiting or being written, by absolute path*/
+    private final ConcurrentHashMap<Path, FileWrites> writes = new ConcurrentHashMap<>();
+
+    /*the saves of one file; only changed inside writes.compute for its path*/
+    private static final class FileWrites {
+        /*the newest contents not yet being written, or null*/
+        private byte[] waiting;
+        /*completed once the waiting contents are written*/
+        private CompletableFuture<Void> waitingDone;
+        /*completed once the contents being written are on disk, or null*/
+        private CompletableFuture<Void> writingDone;
+    }
+
+    /**
+     * Makes an AsyncSaver with the default number of threads and queue size.
+     */
+    public AsyncSaver() {
+        this(new Saver(), DEFAULT_THREADS, DEFAULT_QUEUE_SIZE);
+    }
+
+    /**
+     * Makes an AsyncSaver.
+     *
+     * @param saver     The Saver that encodes, writes and reads the files.
+     * @param threads   The most threads doing file work at once.
+     * @param queueSize The most tasks waiting for a thread.
+     */
+    public AsyncSaver(final Saver saver, final int threads, final int queueSize) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread Count Must Be At Least 1");
+        }
+        if (queueSize < 1) {
+            throw new IllegalArgumentException("Queue Size Must Be At Least 1");
+        }
+        this.saver = saver;
+        executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueSize), task -> {
+                final Thread thread = new Thread(task, "saver");
+                thread.setDaemon(true);
+                return thread;
+            }, (task, pool) -> task.run());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Saves an object to a file in the background.
+     *
+     * @param toSave    The object to save, encoded before this returns.
+     * @param filename  The name of the file to write to.
+     * @return  A future completed when the file holds this object or a later save
+     *          of the same file, or completed with an IOException if it could not be saved.
+     */
+    public CompletableFuture<Void> saveObject(final Serializable toSave, final String filename) {
+        final byte[] data;
+        try {
+            data = saver.encode(toSave);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        final Path path = Path.of(filename).toAbsolutePath().normalize();
+        final AtomicReference<CompletableFuture<Void>> result = new AtomicReference<>();
+        final boolean[] start = new boolean[1];
+        writes.compute(path, (key, file) -> {
+            final FileWrites current = file == null ? new FileWrites() : file;
+            if (current.waiting == null) {
+                current.waitingDone = new CompletableFuture<>();
+                // a file that is already being written is drained by its own task
+                start[0] = current.writingDone == null;
+            }
+            current.waiting = data;
+            result.set(current.waitingDone);
+            return current;
+        });
+        if (start[0]) {
+            executor.execute(() -> drain(path));
+        }
+        return result.get();
+    }
+
+    /**
+     * Loads an object from a file in the background, after any saves to that file
+     * made before this call are finished.
+     *
+     * @param filename  The file to read the object from.
+     * @return  A future completed with the object, or with an IOException if it cannot be read.
+     */
+    public CompletableFuture<Serializable> loadObject(final String filename) {
+        final CompletableFuture<Serializable> loaded = new CompletableFuture<>();
+        pendingSaves(filename).whenComplete((saved, error) -> executor.execute(() -> {
+            try {
+                loaded.complete(saver.loadObject(filename));
+            } catch (IOException | RuntimeException e) {
+                loaded.completeExceptionally(e);
+            }
+        }));
+        return loaded;
+    }
+
+    /**
+     * Checks that a file is whole in the background, as Saver.verify does, after
+     * any saves to that file made before this call are finished.
+     *
+     * @param filename  The file to check.
+     * @return  A future completed with true if the file looks whole.
+     */
+    public CompletableFuture<Boolean> verify(final String filename) {
+        final CompletableFuture<Boolean> checked = new CompletableFuture<>();
+        pendingSaves(filename).whenComplete((saved, error) ->
+            executor.execute(() -> checked.complete(saver.verify(filename))));
+        return checked;
+    }
+
+    /**
+     * Finishes the saves already made and stops the threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS)) {
+                // keep waiting for the last writes
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*helper method to write the newest contents of a file until none are waiting*/
+    private void drain(final Path path) {
+        while (true) {
+            final byte[][] data = new byte[1][];
+            final AtomicReference<CompletableFuture<Void>> done = new AtomicReference<>();
+            writes.compute(path, (key, file) -> {
+                if (file.waiting == null) {
+                    // nothing new arrived while writing, so the file is finished
+                    return null;
+                }
+                data[0] = file.waiting;
+                done.set(file.waitingDone);
+                file.writingDone = file.waitingDone;
+                file.waiting = null;
+                file.waitingDone = null;
+                return file;
+            });
+            if (data[0] == null) {
+                return;
+            }
+            try {
+                saver.writeFile(data[0], path.toString());
+                done.get().complete(null);
+            } catch (IOException | RuntimeException e) {
+                done.get().completeExceptionally(e);
+            }
+        }
+    }
+
+    /*helper method to find when the saves made so far to a file are finished*/
+    private CompletableFuture<?> pendingSaves(final String filename) {
+        final CompletableFuture<?>[] last = new CompletableFuture<?>[1];
+        writes.computeIfPresent(Path.of(filename).toAbsolutePath().normalize(), (key, file) -> {
+            last[0] = file.waitingDone != null ? file.waitingDone : file.writingDone;
+            return file;
+        });
+        return last[0] == null ? CompletableFuture.completedFuture(null) : last[0];
+    }
+}
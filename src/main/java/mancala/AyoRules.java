@@ -6,6 +6,11 @@ package mancala;
 public class AyoRules extends GameRules {
     private static final long serialVersionUID = 8868613842003379656L;
 
+    /**
+     * The number of relays a single move makes before the board is checked for a relay cycle.
+     */
+    private static final int RELAY_CYCLE_CHECK = 64;
+
     /**
      * Creates an AyoRules object by initializing the data structure.
      */
@@ -13,6 +18,29 @@ public class AyoRules extends GameRules {
         super();
     }
 
+    /**
+     * Makes an AyoRules object with a number of stones in every pit at the start.
+     * 
+     * @param startStones   The number of stones in each pit at the start of the game.
+     */
+    public AyoRules(final int startStones) {
+        super(startStones);
+    }
+
+    /**
+     * Creates an AyoRules object holding a copy of another's board and turn state.
+     * 
+     * @param source    The rules to copy.
+     */
+    public AyoRules(final AyoRules source) {
+        super(source);
+    }
+
+    @Override
+    public AyoRules copy() {
+        return new AyoRules(this);
+    }
+
    /**
      * Completes a move using Ayo rules, until the final pit is empty.
      * 
@@ -21,14 +49,19 @@ public class AyoRules extends GameRules {
      */
     @Override
     public int moveStones(final int startPit, final int playerNum) throws InvalidMoveException {
+        final EngineMetrics metrics = EngineMetrics.current();
+        final long start = metrics == null ? 0 : System.nanoTime();
         checkForInvalidMove(startPit, playerNum);
         setPlayer(playerNum);
 
         final int initialStoneCount = getDataStructure().getStoreCount(playerNum);
         // we distriubte stones until the starting pit has zero stones
-        distributeStones(startPit);
+        final int sown = distributeStones(startPit);
 
         swapPlayers();
+        if (metrics != null) {
+            metrics.recordMove(System.nanoTime() - start, sown, false);
+        }
         return getDataStructure().getStoreCount(playerNum) - initialStoneCount;
     }
 
@@ -43,31 +76,100 @@ public class AyoRules extends GameRules {
         if (startPit < 1 || startPit > 12) {
             throw new RuntimeException("Pit Number Out of Range");
         }
-        getDataStructure().setIterator(startPit, getPlayer(), true);
+
+        final long relayed = relay(getDataStructure(), startPit, getPlayer());
+        final int lastSlot = (int) relayed;
         
-        int stonesMoved = 0;
-        int currStartPit = startPit;
-        Countable currentSpot = null;
-        do {
-            final int stonesToMove = getDataStructure().removeStones(currStartPit);
-            for (int i = 0; i< stonesToMove; i++) {
-               
-                stonesMoved++;
-                currentSpot = getDataStructure().next();
-                currentSpot.addStone();
-                if (getDataStructure().isPit(currentSpot)) {
-                    setLastPitIndex(currentSpot);
+        // check for a steal
+        if (lastSlot != PLAYER_ONE && lastSlot != PLAYER_TWO) {
+            setLastPitIndex(CompactBoard.pitOf(lastSlot));
+            if (isCapture(getDataStructure(), lastSlot, getPlayer())) {
+                recordCapture(captureStones(getLastPitIndex()));
+            }
+        }
+        
+        return (int) (relayed >> 32);
+    }
+
+    /**
+     * Plays a move on the given board using Ayo rules, relaying from the last pit
+     * until it was empty, without touching this game's own board or current player.
+     * 
+     * @param board     The board to play the move on.
+     * @param startPit  The pit to start the move from.
+     * @param playerNum The player making the move (1 or 2).
+     * @return  The player who moves next.
+     */
+    @Override
+    public int playMove(final StoneBoard board, final int startPit, final int playerNum) {
+        final int lastSlot = (int) relay(board, startPit, playerNum);
+
+        if (isCapture(board, lastSlot, playerNum)) {
+            board.addToStore(playerNum, board.removeStones(CompactBoard.pitOf(CompactBoard.oppositeSlot(lastSlot))));
+        }
+        return otherPlayer(playerNum);
+    }
+
+    /**
+     * Sows the stones from a pit, skipping the starting pit, and keeps picking up
+     * the pit the last stone landed in until it lands in a store or a pit that was empty.
+     * Each relay sows its whole laps at once and only walks the remaining stones.
+     * 
+     * @param board     The board to play the move on.
+     * @param startPit  The pit to start the move from.
+     * @param playerNum The player making the move (1 or 2).
+     * @return  The total number of stones sown in the high 32 bits, and the slot
+     *          index the last stone landed in in the low 32 bits.
+     */
+    private static long relay(final StoneBoard board, final int startPit, final int playerNum) {
+        final int skipStore = CompactBoard.storeSlot(otherPlayer(playerNum));
+        final int skipPit = CompactBoard.slotOf(startPit);
+
+        long stonesMoved = 0;
+        int relays = 0;
+        int nextMark = RELAY_CYCLE_CHECK;
+        long markedState = 0;
+        boolean marked = false;
+
+        int slot = skipPit;
+        int stones = board.removeStones(startPit);
+        while (true) {
+            stonesMoved += stones;
+            slot = sow(board, slot, stones, skipStore, skipPit);
+            if (slot == PLAYER_ONE || slot == PLAYER_TWO || board.getSlotCount(slot) <= 1) {
+                break;
+            }
+
+            // long chains are checked for a repeated board, remembering the board at doubling intervals
+            if (++relays >= RELAY_CYCLE_CHECK) {
+                final long state = relayState(board, slot);
+                if (marked && state == markedState) {
+                    throw new RuntimeException("Relay Cycle Detected");
+                }
+                if (relays == nextMark) {
+                    markedState = state;
+                    marked = true;
+                    nextMark *= 2;
                 }
             }
-            currStartPit = getLastPitIndex();
-        } while (getNumStones(currStartPit) > 1 && !getDataStructure().isStore(currentSpot));
+            stones = board.removeStones(CompactBoard.pitOf(slot));
+        }
+        return stonesMoved << 32 | slot;
+    }
 
-        checkForSteal(currentSpot);
-        if (doPerformSteal()) {
-            captureStones(getLastPitIndex());
+    /**
+     * Mixes the counts of every slot and the pit about to be picked up into a 64 bit value.
+     * 
+     * @param board The board being relayed on.
+     * @param slot  The slot index of the pit about to be picked up.
+     * @return  A value identifying the state of the relay.
+     */
+    private static long relayState(final StoneBoard board, final int slot) {
+        long state = slot;
+        for (int i = 0; i < CompactBoard.NUM_SLOTS; i++) {
+            state = (state ^ board.getSlotCount(i)) * 0x9E3779B97F4A7C15L;
         }
-        
-        return stonesMoved;
+        return state ^ (state >>> 29);
     }
 
     /**
@@ -0,0 +1,104 @@
+package mancala;
+
+/**
+ * Renders boards and games as text, in exactly the layout of
+ * MancalaDataStructure.toString and MancalaGame.toString.
+ *
+ * The static append methods write into a caller's StringBuilder without making
+ * any other objects, so a logger can render straight into its own buffer. An
+ * instance keeps one buffer, sized for a whole game, and reuses it for every
+ * render, so rendering costs only the returned String. An instance must not be
+ * shared between threads.
+ */
+public class BoardRenderer {
+
+    /**
+     * The characters needed to render a board with up to three-digit counts.
+     */
+    public static final int BOARD_CAPACITY = 256;
+    /**
+     * The characters needed to render a game with up to three-digit counts.
+     */
+    public static final int GAME_CAPACITY = 512;
+
+    /*the title line of a rendered game*/
+    private static final String TITLE = "\t\t\t\t\tMancala\t\t\t\t\t\n";
+    /*the line above and below a rendered game's board*/
+    private static final String SEPARATOR = "-".repeat(100);
+
+    /**
+     * The buffer reused by every render.
+     */
+    private final StringBuilder buffer = new StringBuilder(GAME_CAPACITY);
+
+    /**
+     * Renders a board.
+     *
+     * @param board The board to render.
+     * @return  The same text as MancalaDataStructure.toString.
+     */
+    public String renderBoard(final StoneBoard board) {
+        buffer.setLength(0);
+        return appendBoard(buffer, board).toString();
+    }
+
+    /**
+     * Renders a game.
+     *
+     * @param game  The game to render.
+     * @return  The same text as MancalaGame.toString.
+     */
+    public String renderGame(final MancalaGame game) {
+        buffer.setLength(0);
+        return appendGame(buffer, game).toString();
+    }
+
+    /**
+     * Appends a game's title, board and separators.
+     *
+     * @param out   The builder to append to.
+     * @param game  The game to render.
+     * @return  The builder.
+     */
+    public static StringBuilder appendGame(final StringBuilder out, final MancalaGame game) {
+        return appendGame(out, game.getBoard().getDataStructure());
+    }
+
+    /**
+     * Appends a board framed as a game: the title, the board and the separators.
+     *
+     * @param out   The builder to append to.
+     * @param board The board to render.
+     * @return  The builder.
+     */
+    public static StringBuilder appendGame(final StringBuilder out, final StoneBoard board) {
+        out.append(TITLE).append(SEPARATOR).append('\n');
+        appendBoard(out, board);
+        return out.append('\n').append(SEPARATOR);
+    }
+
+    /**
+     * Appends a board: player two's store and pits on one line, then player
+     * one's pits and store on the next.
+     *
+     * @param out   The builder to append to.
+     * @param board The board to render.
+     * @return  The builder.
+     */
+    public static StringBuilder appendBoard(final StringBuilder out, final StoneBoard board) {
+        out.append("Player Two's Store: ").append(board.getStoreCount(2)).append('\t');
+        for (int pit = 12; pit >= 7; pit--) {
+            appendPit(out, board, pit);
+        }
+        out.append("\n\t\t\t");
+        for (int pit = 1; pit <= 6; pit++) {
+            appendPit(out, board, pit);
+        }
+        return out.append("   Player One's Store: ").append(board.getStoreCount(1));
+    }
+
+    /*helper method to append one pit as [number]: stones*/
+    private static void appendPit(final StringBuilder out, final StoneBoard board, final int pit) {
+        out.append('[').append(pit).append("]: ").append(board.getNumStones(pit)).append('\t');
+    }
+}
@@ -0,0 +1,227 @@
+package mancala;
+
+import java.io.Serializable;
+
+/**
+ * A compact board which keeps the stone counts of the twelve pits and two
+ * stores in a single int array, in the same slot order as MancalaDataStructure.
+ * It holds no Pit or Store objects, so moves played on it do not allocate.
+ */
+public class CompactBoard implements Serializable, StoneBoard, PlayerPositions {
+    private static final long serialVersionUID = 3208843906410417291L;
+
+    /**
+     * The number of slots (pits and stores) on the board.
+     */
+    public static final int NUM_SLOTS = 14;
+
+    /**
+     * The stone count of every slot on the board.
+     */
+    final private int[] slots = new int[NUM_SLOTS];
+    /**
+     * The Zobrist-style hash of the stone counts, kept up to date as stones are added and removed.
+     */
+    private long zobristHash = 0;
+
+    /**
+     * Creates a board with every pit and store empty.
+     */
+    public CompactBoard() {
+        // all slots start at zero
+    }
+
+    /**
+     * Creates a board with a given number of stones in every pit and empty stores.
+     *
+     * @param startStones   The number of stones to place in each pit.
+     */
+    public CompactBoard(final int startStones) {
+        setUpPits(startStones);
+    }
+
+    /**
+     * Creates a board holding the same stone counts as another board.
+     *
+     * @param source    The board to copy the counts from.
+     */
+    public CompactBoard(final StoneBoard source) {
+        copyFrom(source);
+    }
+
+    @Override
+    public int addStones(final int pitNum, final int numToAdd) {
+        final int pos = slotOf(pitNum);
+        slots[pos] += numToAdd;
+        zobristHash += numToAdd * ZobristKeys.slotKey(pos);
+        return slots[pos];
+    }
+
+    @Override
+    public int removeStones(final int pitNum) {
+        final int pos = slotOf(pitNum);
+        final int stones = slots[pos];
+        slots[pos] = 0;
+        zobristHash -= stones * ZobristKeys.slotKey(pos);
+        return stones;
+    }
+
+    @Override
+    public int getNumStones(final int pitNum) {
+        return slots[slotOf(pitNum)];
+    }
+
+    @Override
+    public int addToStore(final int playerNum, final int numToAdd) {
+        final int pos = storeSlot(playerNum);
+        slots[pos] += numToAdd;
+        zobristHash += numToAdd * ZobristKeys.slotKey(pos);
+        return slots[pos];
+    }
+
+    @Override
+    public int getStoreCount(final int playerNum) {
+        return slots[storeSlot(playerNum)];
+    }
+
+    @Override
+    public boolean isSideEmpty(final int playerNum) {
+        final int start = storeSlot(playerNum) - PLAYER_ONE;
+        for (int i = start; i < start + PLAYER_ONE; i++) {
+            if (slots[i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int getSlotCount(final int slot) {
+        return slots[slot];
+    }
+
+    @Override
+    public int addToSlot(final int slot, final int numToAdd) {
+        slots[slot] += numToAdd;
+        zobristHash += numToAdd * ZobristKeys.slotKey(slot);
+        return slots[slot];
+    }
+
+    /**
+     * Puts a given number of stones in every pit, leaving the stores untouched.
+     *
+     * @param startStones   The number of stones to place in each pit.
+     */
+    public void setUpPits(final int startStones) {
+        for (int i = 0; i < PLAYER_ONE; i++) {
+            slots[i] = startStones;
+            slots[i + PLAYER_TWO_START] = startStones;
+        }
+        zobristHash = ZobristKeys.hashOf(this);
+    }
+
+    /**
+     * Empties both players' stores.
+     */
+    public void emptyStores() {
+        slots[PLAYER_ONE] = 0;
+        slots[PLAYER_TWO] = 0;
+        zobristHash = ZobristKeys.hashOf(this);
+    }
+
+    /**
+     * Overwrites every slot of this board with the counts from another board.
+     *
+     * @param source    The board to copy the counts from.
+     */
+    public void copyFrom(final StoneBoard source) {
+        for (int i = 0; i < NUM_SLOTS; i++) {
+            slots[i] = source.getSlotCount(i);
+        }
+        zobristHash = ZobristKeys.hashOf(this);
+    }
+
+    /**
+     * Overwrites every slot of this board with the counts from another compact board.
+     *
+     * @param source    The board to copy the counts from.
+     */
+    public void copyFrom(final CompactBoard source) {
+        System.arraycopy(source.slots, 0, slots, 0, NUM_SLOTS);
+        zobristHash = source.zobristHash;
+    }
+
+    @Override
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    /**
+     * Converts a 1 based pit number into its slot index.
+     *
+     * @param pitNum    The number of the pit (1 to 12).
+     * @return  The slot index of the pit.
+     */
+    static int slotOf(final int pitNum) {
+        if (pitNum < 1 || pitNum > 12) {
+            throw new RuntimeException("Pit Number Out of Range");
+        }
+        return pitNum <= PLAYER_ONE ? pitNum - 1 : pitNum;
+    }
+
+    /**
+     * Converts the slot index of a pit into its 1 based pit number.
+     *
+     * @param slot  The slot index of the pit.
+     * @return  The number of the pit.
+     */
+    static int pitOf(final int slot) {
+        return slot < PLAYER_ONE ? slot + 1 : slot;
+    }
+
+    /**
+     * Gets the slot index of a player's store.
+     *
+     * @param playerNum The player number (1 or 2).
+     * @return  The slot index of the store.
+     */
+    static int storeSlot(final int playerNum) {
+        if (playerNum == PLAYER_ONE_NUM) {
+            return PLAYER_ONE;
+        } else if (playerNum == PLAYER_TWO_NUM) {
+            return PLAYER_TWO;
+        }
+        throw new RuntimeException("Invalid Player Position");
+    }
+
+    /**
+     * Gets the slot index of the pit across the board from a pit.
+     *
+     * @param slot  The slot index of the pit.
+     * @return  The slot index of the opposite pit.
+     */
+    static int oppositeSlot(final int slot) {
+        return 12 - slot;
+    }
+
+    /**
+     * Checks if a slot is one of a player's pits.
+     *
+     * @param slot      The slot index to check.
+     * @param playerNum The player number (1 or 2).
+     * @return  True if the slot is a pit on the player's side, and false otherwise.
+     */
+    static boolean isPlayersPit(final int slot, final int playerNum) {
+        final int start = storeSlot(playerNum) - PLAYER_ONE;
+        return slot >= start && slot < start + PLAYER_ONE;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder string = new StringBuilder();
+        for (int i = 0; i < NUM_SLOTS; i++) {
+            string.append(i == 0 ? "[" : ", ").append(slots[i]);
+        }
+        return string.append(']').toString();
+    }
+}
@@ -0,0 +1,213 @@
+package mancala;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional instrumentation of the rule engines: counters and histograms of the
+ * moves played through GameRules.moveStones, from every game in the process.
+ *
+ * Metrics are off until enable is called. While they are off, a move reads one
+ * field and finds it null, so the engines run as if the metrics did not exist.
+ * While they are on, every counter and histogram is lock-free, so games on many
+ * threads can record at once. Moves played on other boards with playMove, as the
+ * searches do, are not recorded.
+ */
+public final class EngineMetrics {
+
+    /**
+     * The metrics being recorded to, or null while metrics are off.
+     */
+    private static volatile EngineMetrics installed;
+
+    /**
+     * The number of moves played.
+     */
+    private final LongAdder moves = new LongAdder();
+    /**
+     * The number of moves that earned an extra turn.
+     */
+    private final LongAdder extraTurns = new LongAdder();
+    /**
+     * The number of captures.
+     */
+    private final LongAdder captures = new LongAdder();
+    /**
+     * The time each move took, in nanoseconds.
+     */
+    private final Histogram moveNanos = new Histogram();
+    /**
+     * The number of stones sown by each move, counting every lap of a relay.
+     */
+    private final Histogram sowingLength = new Histogram();
+    /**
+     * The number of stones taken by each capture.
+     */
+    private final Histogram captureSize = new Histogram();
+
+    /*metrics are only made by enable*/
+    private EngineMetrics() {
+    }
+
+    /**
+     * Turns metrics on, keeping any already being recorded.
+     *
+     * @return  The metrics being recorded to.
+     */
+    public static synchronized EngineMetrics enable() {
+        if (installed == null) {
+            installed = new EngineMetrics();
+        }
+        return installed;
+    }
+
+    /**
+     * Turns metrics off. Metrics already taken from enable keep what they recorded.
+     */
+    public static synchronized void disable() {
+        installed = null;
+    }
+
+    /**
+     * Gets the metrics being recorded to.
+     *
+     * @return  The metrics, or null while metrics are off.
+     */
+    public static EngineMetrics current() {
+        return installed;
+    }
+
+    /**
+     * Records a move.
+     *
+     * @param nanos     The time the move took.
+     * @param sown      The number of stones sown.
+     * @param extraTurn Whether the player moves again.
+     */
+    void recordMove(final long nanos, final int sown, final boolean extraTurn) {
+        moves.increment();
+        if (extraTurn) {
+            extraTurns.increment();
+        }
+        moveNanos.record(nanos);
+        sowingLength.record(sown);
+    }
+
+    /**
+     * Records a capture.
+     *
+     * @param stones    The number of stones captured.
+     */
+    void recordCapture(final int stones) {
+        captures.increment();
+        captureSize.record(stones);
+    }
+
+    /**
+     * Clears every counter and histogram.
+     */
+    public void reset() {
+        moves.reset();
+        extraTurns.reset();
+        captures.reset();
+        moveNanos.reset();
+        sowingLength.reset();
+        captureSize.reset();
+    }
+
+    /**
+     * Gets the number of moves played.
+     *
+     * @return  The count.
+     */
+    public long getMoves() {
+        return moves.sum();
+    }
+
+    /**
+     * Gets the number of moves that earned an extra turn.
+     *
+     * @return  The count.
+     */
+    public long getExtraTurns() {
+        return extraTurns.sum();
+    }
+
+    /**
+     * Gets the number of captures.
+     *
+     * @return  The count.
+     */
+    public long getCaptures() {
+        return captures.sum();
+    }
+
+    /**
+     * Copies the time each move took, in nanoseconds.
+     *
+     * @return  The histogram copy.
+     */
+    public Histogram.Snapshot getMoveNanos() {
+        return moveNanos.snapshot();
+    }
+
+    /**
+     * Copies the number of stones sown by each move.
+     *
+     * @return  The histogram copy.
+     */
+    public Histogram.Snapshot getSowingLength() {
+        return sowingLength.snapshot();
+    }
+
+    /**
+     * Copies the number of stones taken by each capture.
+     *
+     * @return  The histogram copy.
+     */
+    public Histogram.Snapshot getCaptureSize() {
+        return captureSize.snapshot();
+    }
+
+    /**
+     * Exports every metric as named values, in the dotted style of metrics
+     * registries: counters, then the count, mean, percentiles and maximum of
+     * each histogram.
+     *
+     * @return  The values by name, in a fixed order.
+     */
+    public Map<String, Number> snapshot() {
+        final Map<String, Number> values = new LinkedHashMap<>();
+        final long moveCount = getMoves();
+        values.put("mancala.moves", moveCount);
+        values.put("mancala.extra.turns", getExtraTurns());
+        values.put("mancala.extra.turn.rate", moveCount == 0 ? 0.0 : (double) getExtraTurns() / moveCount);
+        values.put("mancala.captures", getCaptures());
+        values.put("mancala.capture.rate", moveCount == 0 ? 0.0 : (double) getCaptures() / moveCount);
+        export(values, "mancala.move.nanos", getMoveNanos());
+        export(values, "mancala.sowing.length", getSowingLength());
+        export(values, "mancala.capture.size", getCaptureSize());
+        return values;
+    }
+
+    /*helper method to add a histogram's summary values under a name*/
+    private static void export(final Map<String, Number> values, final String name,
+        final Histogram.Snapshot histogram) {
+        values.put(name + ".count", histogram.getCount());
+        values.put(name + ".mean", histogram.getMean());
+        values.put(name + ".p50", histogram.getValueAtPercentile(50));
+        values.put(name + ".p90", histogram.getValueAtPercentile(90));
+        values.put(name + ".p99", histogram.getValueAtPercentile(99));
+        values.put(name + ".max", histogram.getMax());
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, Number> value : snapshot().entrySet()) {
+            text.append(value.getKey()).append(' ').append(value.getValue()).append('\n');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,224 @@
+package mancala;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A compact, versioned binary format for a MancalaGame, holding only what is
+ * needed to carry on playing: the rule set, the start stones, the 14 counters,
+ * the player to move and the player names. A game with two short names takes
+ * about 50 bytes, against a few kilobytes of serialized object graph, and does
+ * not depend on the classes' serialVersionUIDs.
+ *
+ * Layout, big-endian: the magic number, a version byte, a rule set byte (0 for
+ * none, 1 for Kalah, 2 for Ayo), the start stones and each of the 14 slot
+ * counts as unsigned shorts, the player to move as a byte, then each player as
+ * a byte (0 for none, 1 for no name, 2 for a name) followed by the name in
+ * modified UTF-8. Player profiles are not kept; they are saved on their own.
+ */
+public final class GameCodec {
+
+    /**
+     * The first four bytes of an encoded game, "MNCG". Serialized objects start
+     * with 0xACED instead, so the two cannot be confused.
+     */
+    public static final int MAGIC = 0x4D4E4347;
+    /**
+     * The version of the format written.
+     */
+    public static final int VERSION = 1;
+
+    /*the rule set byte of a game that has not started*/
+    static final int NO_RULES = 0;
+    /*the rule set byte of a Kalah game*/
+    static final int KALAH = 1;
+    /*the rule set byte of an Ayo game*/
+    static final int AYO = 2;
+    /*the player byte of a missing player*/
+    private static final int NO_PLAYER = 0;
+    /*the player byte of a player without a name*/
+    private static final int UNNAMED_PLAYER = 1;
+    /*the player byte of a player with a name*/
+    private static final int NAMED_PLAYER = 2;
+    /*the largest count an unsigned short holds*/
+    private static final int MAX_COUNT = 0xFFFF;
+
+    /*the codec only has static methods*/
+    private GameCodec() {
+    }
+
+    /**
+     * Encodes a game into a new array.
+     *
+     * @param game  The game to encode.
+     * @return  The encoded game.
+     */
+    public static byte[] encode(final MancalaGame game) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try {
+            write(new DataOutputStream(bytes), game);
+        } catch (IOException e) {
+            // a byte array stream never fails
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a game from an array.
+     *
+     * @param bytes The encoded game.
+     * @return  The decoded game.
+     * @throws IOException  If the bytes are not a game in a known version.
+     */
+    public static MancalaGame decode(final byte[] bytes) throws IOException {
+        return read(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    /**
+     * Writes a game, starting with the magic number.
+     *
+     * @param out   The output to write to.
+     * @param game  The game to write.
+     * @throws IOException  If the output cannot be written.
+     */
+    public static void write(final DataOutput out, final MancalaGame game) throws IOException {
+        final GameRules rules = game.getBoard();
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(ruleSetOf(rules));
+        if (rules != null) {
+            final MancalaDataStructure board = rules.getDataStructure();
+            out.writeShort(checkCount(board.getStartStones()));
+            for (int slot = 0; slot < CompactBoard.NUM_SLOTS; slot++) {
+                out.writeShort(checkCount(board.getSlotCount(slot)));
+            }
+            out.writeByte(rules.getCurrentPlayer());
+        }
+        writePlayer(out, game.getPlayer(PlayerPositions.PLAYER_ONE_NUM));
+        writePlayer(out, game.getPlayer(PlayerPositions.PLAYER_TWO_NUM));
+    }
+
+    /**
+     * Reads a game, starting with the magic number.
+     *
+     * @param in    The input to read from.
+     * @return  The game read.
+     * @throws IOException  If the input is not a game in a known version.
+     */
+    public static MancalaGame read(final DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Error - the data is not an encoded game");
+        }
+        final int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Error - the game was encoded in unknown version " + version);
+        }
+        final MancalaGame game = new MancalaGame();
+        final int ruleSet = in.readUnsignedByte();
+        if (ruleSet != NO_RULES) {
+            final int startStones = in.readUnsignedShort();
+            if (ruleSet == KALAH) {
+                game.startKalahGame(startStones);
+            } else if (ruleSet == AYO) {
+                game.startAyoGame(startStones);
+            } else {
+                throw new IOException("Error - the game has unknown rule set " + ruleSet);
+            }
+            final GameRules rules = game.getBoard();
+            final MancalaDataStructure board = rules.getDataStructure();
+            for (int slot = 0; slot < CompactBoard.NUM_SLOTS; slot++) {
+                board.addToSlot(slot, in.readUnsignedShort() - board.getSlotCount(slot));
+            }
+            final int player = in.readUnsignedByte();
+            if (player != PlayerPositions.PLAYER_ONE_NUM && player != PlayerPositions.PLAYER_TWO_NUM) {
+                throw new IOException("Error - the game has unknown player to move " + player);
+            }
+            rules.setPlayer(player);
+        }
+        final Player playerOne = readPlayer(in);
+        final Player playerTwo = readPlayer(in);
+        if (playerOne == null && playerTwo == null) {
+            // a started game may not have its players yet
+            return game;
+        } else if (ruleSet == NO_RULES) {
+            throw new IOException("Error - the game has players but no rule set");
+        } else if (playerOne == null || playerTwo == null) {
+            throw new IOException("Error - the game has only one player");
+        }
+        game.setPlayers(playerOne, playerTwo);
+        return game;
+    }
+
+    /**
+     * Checks whether bytes start with the magic number of an encoded game.
+     *
+     * @param header    At least the first four bytes of some data.
+     * @return  True if the data is an encoded game.
+     */
+    public static boolean isEncodedGame(final byte[] header) {
+        return header.length >= 4 && ((header[0] & 0xFF) << 24 | (header[1] & 0xFF) << 16
+            | (header[2] & 0xFF) << 8 | header[3] & 0xFF) == MAGIC;
+    }
+
+    /**
+     * Gets the rule set byte of a game's rules.
+     *
+     * @param rules The rules, or null for a game that has not started.
+     * @return  NO_RULES, KALAH or AYO.
+     */
+    static int ruleSetOf(final GameRules rules) {
+        if (rules == null) {
+            return NO_RULES;
+        } else if (rules instanceof KalahRules) {
+            return KALAH;
+        } else if (rules instanceof AyoRules) {
+            return AYO;
+        }
+        throw new IllegalArgumentException("Unknown Rule Set " + rules.getClass().getSimpleName());
+    }
+
+    /**
+     * Checks a stone count fits in an unsigned short.
+     *
+     * @param count The count.
+     * @return  The count.
+     */
+    static int checkCount(final int count) {
+        if (count < 0 || count > MAX_COUNT) {
+            throw new IllegalArgumentException("Stone Count Out Of Range: " + count);
+        }
+        return count;
+    }
+
+    /*helper method to write a player as its name*/
+    private static void writePlayer(final DataOutput out, final Player player) throws IOException {
+        if (player == null) {
+            out.writeByte(NO_PLAYER);
+        } else if (player.getName() == null) {
+            out.writeByte(UNNAMED_PLAYER);
+        } else {
+            out.writeByte(NAMED_PLAYER);
+            out.writeUTF(player.getName());
+        }
+    }
+
+    /*helper method to read a player written by writePlayer*/
+    private static Player readPlayer(final DataInput in) throws IOException {
+        final int kind = in.readUnsignedByte();
+        if (kind == NO_PLAYER) {
+            return null;
+        } else if (kind == UNNAMED_PLAYER) {
+            return new Player();
+        } else if (kind == NAMED_PLAYER) {
+            return new Player(in.readUTF());
+        }
+        throw new IOException("Error - the game has an unknown player kind " + kind);
+    }
+}
@@ -32,10 +32,49 @@ public abstract class GameRules implements Serializable, PlayerPositions
      * Constructor to initialize the game board.
      */
     public GameRules() {
-        gameBoard = new MancalaDataStructure();
+        this(MancalaDataStructure.DEFAULT_START_STONES);
+    }
+
+    /**
+     * Constructor to initialize the game board with a number of stones in every pit.
+     * 
+     * @param startStones   The number of stones in each pit at the start of the game.
+     */
+    public GameRules(final int startStones) {
+        gameBoard = new MancalaDataStructure(startStones);
         gameBoard.setUpPits();
     }
 
+    /**
+     * Constructor to copy the board and turn state of another game.
+     * 
+     * @param source    The game rules to copy.
+     */
+    protected GameRules(final GameRules source) {
+        gameBoard = source.gameBoard.copy();
+        currentPlayer = source.currentPlayer;
+        performSteal = source.performSteal;
+        lastPitIndex = source.lastPitIndex;
+    }
+
+    /**
+     * Copies the stone counts of the game's board into a CompactBoard, which can
+     * be played on with playMove without affecting this game.
+     * 
+     * @return  A compact copy of the board.
+     */
+    public CompactBoard toCompactBoard() {
+        return new CompactBoard(gameBoard);
+    }
+
+    /**
+     * Makes a copy of the game with its own board holding the same stone counts
+     * and the same turn state, so it can be played on without affecting this one.
+     * 
+     * @return  The copy of the game rules.
+     */
+    public abstract GameRules copy();
+
     /**
      * Gets the number of stones in a pit.
      *
@@ -110,6 +149,29 @@ public abstract class GameRules implements Serializable, PlayerPositions
      */
     abstract int captureStones(int stoppingPoint);
 
+    /**
+     * Counts a capture in the engine metrics, if they are on.
+     *
+     * @param stones    The number of stones captured.
+     */
+    static void recordCapture(final int stones) {
+        final EngineMetrics metrics = EngineMetrics.current();
+        if (metrics != null) {
+            metrics.recordCapture(stones);
+        }
+    }
+
+    /**
+     * Plays a move on the given board without touching this game's own board
+     * or current player, and returns the number of the player who moves next.
+     *
+     * @param board     The board to play the move on.
+     * @param startPit  The starting pit for the move.
+     * @param playerNum The player making the move.
+     * @return  The number of the player who moves next.
+     */
+    public abstract int playMove(StoneBoard board, int startPit, int playerNum);
+
     /**
      * Register two players and set their stores on the board.
      *
@@ -163,6 +225,79 @@ public abstract class GameRules implements Serializable, PlayerPositions
         }
     }
 
+    /**
+     * Makes a move for the current player and returns a record of what it changed,
+     * so that undoMove can take it back without copying the whole game.
+     * 
+     * @param startPit  The pit to start the move from.
+     * @return  A new record of the move.
+     * @throws  InvalidMoveException If the move is invalid.
+     */
+    public UndoRecord applyMove(final int startPit) throws InvalidMoveException {
+        return applyMove(startPit, new UndoRecord());
+    }
+
+    /**
+     * Makes a move for the current player, filling in a record of what it changed
+     * so that undoMove can take it back. Reusing the record avoids allocating.
+     * 
+     * @param startPit  The pit to start the move from.
+     * @param undo      The record to fill in.
+     * @return  The record that was filled in.
+     * @throws  InvalidMoveException If the move is invalid.
+     */
+    public UndoRecord applyMove(final int startPit, final UndoRecord undo) throws InvalidMoveException {
+        checkForInvalidMove(startPit, currentPlayer);
+        undo.save(gameBoard, startPit, currentPlayer, lastPitIndex, performSteal);
+        moveStones(startPit, currentPlayer);
+        undo.markChanged(gameBoard);
+        return undo;
+    }
+
+    /**
+     * Takes back a move made with applyMove, restoring the board and turn state
+     * exactly. Moves must be taken back in the reverse order they were made.
+     * 
+     * @param undo  The record of the move to take back.
+     */
+    public void undoMove(final UndoRecord undo) {
+        undo.restore(gameBoard);
+        currentPlayer = undo.getPreviousPlayer();
+        lastPitIndex = undo.getPreviousLastPitIndex();
+        performSteal = undo.getPreviousPerformSteal();
+    }
+
+    /**
+     * Generates the legal moves for a player: the non-empty pits on their own side
+     * of the board. This does not allocate or throw for empty pits, so it is cheap
+     * to call before every move.
+     * 
+     * @param playerNum The number corresponding to the player to move.
+     * @return  A bitmask with bit pitNum set for every pit the player can move from,
+     *          or 0 if they have no moves.
+     */
+    public int generateMoves(final int playerNum) {
+        return legalMoves(gameBoard, playerNum);
+    }
+
+    /**
+     * Generates the legal moves for a player on any board.
+     * 
+     * @param board     The board to check.
+     * @param playerNum The number corresponding to the player to move.
+     * @return  A bitmask with bit pitNum set for every pit the player can move from.
+     */
+    public static int legalMoves(final StoneBoard board, final int playerNum) {
+        final int start = CompactBoard.storeSlot(playerNum) - PLAYER_ONE;
+        int moves = 0;
+        for (int slot = start; slot < start + PLAYER_ONE; slot++) {
+            if (board.getSlotCount(slot) > 0) {
+                moves |= 1 << CompactBoard.pitOf(slot);
+            }
+        }
+        return moves;
+    }
+
     /**
      * Checks if the board needs to complete a steal.
      * 
@@ -204,6 +339,107 @@ public abstract class GameRules implements Serializable, PlayerPositions
         }
     }
 
+    /**
+     * Gets the number of the opponent of a player.
+     * 
+     * @param playerNum The number of the player (1 or 2).
+     * @return  The number of the other player.
+     */
+    static int otherPlayer(final int playerNum) {
+        return playerNum == PLAYER_ONE_NUM ? PLAYER_TWO_NUM : PLAYER_ONE_NUM;
+    }
+
+    /**
+     * Gets the slot a stone is sown into after a given slot, skipping the
+     * opponent's store and, under Ayo rules, the starting pit.
+     * 
+     * @param slot      The slot index the last stone was sown into.
+     * @param skipStore The slot index of the store to skip.
+     * @param skipPit   The slot index of the pit to skip, or -1 to skip no pit.
+     * @return  The slot index the next stone is sown into.
+     */
+    static int nextSlot(final int slot, final int skipStore, final int skipPit) {
+        int next = slot;
+        do {
+            next = next == PLAYER_TWO ? 0 : next + 1;
+        } while (next == skipStore || next == skipPit);
+        return next;
+    }
+
+    /**
+     * Sows stones counter-clockwise from a slot. Whole laps of the board are
+     * added to every slot that can receive a stone at once, and only the
+     * remaining stones are walked one slot at a time.
+     * 
+     * @param board     The board to sow the stones on.
+     * @param fromSlot  The slot index the stones were picked up from.
+     * @param stones    The number of stones to sow.
+     * @param skipStore The slot index of the store to skip.
+     * @param skipPit   The slot index of the pit to skip, or -1 to skip no pit.
+     * @return  The slot index the last stone was sown into.
+     */
+    static int sow(final StoneBoard board, final int fromSlot, final int stones, final int skipStore,
+        final int skipPit) {
+        final int lapLength = skipPit < 0 ? CompactBoard.NUM_SLOTS - 1 : CompactBoard.NUM_SLOTS - 2;
+        // walk a full lap rather than none so the last stone still lands in the right slot
+        int steps = stones % lapLength;
+        if (steps == 0 && stones > 0) {
+            steps = lapLength;
+        }
+
+        final int laps = (stones - steps) / lapLength;
+        if (laps > 0) {
+            for (int i = 0; i < CompactBoard.NUM_SLOTS; i++) {
+                if (i != skipStore && i != skipPit) {
+                    board.addToSlot(i, laps);
+                }
+            }
+        }
+
+        int slot = fromSlot;
+        for (int i = 0; i < steps; i++) {
+            slot = nextSlot(slot, skipStore, skipPit);
+            board.addToSlot(slot, 1);
+        }
+        return slot;
+    }
+
+    /**
+     * Checks if the last stone of a move landed in a way that captures the
+     * stones across from it: in an empty pit on the player's own side, with
+     * stones in the pit across.
+     * 
+     * @param board     The board the move was played on.
+     * @param lastSlot  The slot index the last stone was sown into.
+     * @param playerNum The player making the move.
+     * @return  True if the move ends with a capture, and false otherwise.
+     */
+    static boolean isCapture(final StoneBoard board, final int lastSlot, final int playerNum) {
+        return CompactBoard.isPlayersPit(lastSlot, playerNum) && board.getSlotCount(lastSlot) == 1
+            && board.getSlotCount(CompactBoard.oppositeSlot(lastSlot)) != 0;
+    }
+
+    /**
+     * Gets a Zobrist-style hash of the position: the stone counts on the board
+     * and the player to move. It costs the same no matter how many stones moved.
+     * 
+     * @return  The hash of the position.
+     */
+    public long getPositionHash() {
+        return positionHash(gameBoard, currentPlayer);
+    }
+
+    /**
+     * Gets a Zobrist-style hash of a position on any board.
+     * 
+     * @param board     The board holding the stones.
+     * @param playerNum The player to move (1 or 2).
+     * @return  The hash of the position.
+     */
+    public static long positionHash(final StoneBoard board, final int playerNum) {
+        return board.getZobristHash() ^ ZobristKeys.playerKey(playerNum);
+    }
+
     /**
      * Gets the number corresponding to the current player.
      * 
@@ -0,0 +1,416 @@
+package mancala;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Many saved games in one memory-mapped file of fixed-size slots, found by game
+ * id. Saving or loading a game copies its few dozen bytes to or from the mapped
+ * file, with no file to open and nothing to deserialize; the operating system
+ * writes changed pages back in its own time, or when force is called.
+ *
+ * A slot holds the rule set, start stones, the 14 counters and the player to
+ * move, but not the players, which are given to load. Ids are placed by open
+ * addressing: an id's slot is found by hashing it and stepping forward past
+ * slots holding other ids. Loads take no lock: each slot has a version that a
+ * save makes odd while it writes and even when it is done, and a load that sees
+ * the version change reads the slot again, falling back on the slot's lock if it
+ * keeps changing. Saves to different slots run at once, with a lock for each of
+ * a fixed set of slot stripes. A slot left odd by a crash in the middle of a
+ * save may hold half a game, so opening the store removes its game.
+ *
+ * Slot layout, big-endian: the version (int), the state (byte: empty, used or
+ * removed), the rule set (byte, as in GameCodec), the player to move (byte), a
+ * spare byte, the game id (long), then the start stones and the 14 counters as
+ * unsigned shorts.
+ */
+public class GameStore implements Closeable {
+
+    /**
+     * The first four bytes of a store file, "MNGS".
+     */
+    public static final int MAGIC = 0x4D4E4753;
+    /**
+     * The version of the store layout.
+     */
+    public static final int VERSION = 1;
+    /**
+     * The number of bytes each slot takes.
+     */
+    public static final int SLOT_BYTES = 64;
+
+    /*the bytes before the first slot: magic, version, capacity and slot size*/
+    private static final int HEADER_BYTES = 64;
+    /*the most slots one mapping can hold*/
+    private static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_BYTES) / SLOT_BYTES;
+    /*the number of lock stripes, a power of two*/
+    private static final int STRIPES = 64;
+    /*the number of lock-free reads a load tries before reading under the slot's lock*/
+    private static final int OPTIMISTIC_READS = 64;
+    /*the states of a slot*/
+    private static final byte EMPTY = 0;
+    private static final byte USED = 1;
+    private static final byte REMOVED = 2;
+    /*the offsets of the fields within a slot*/
+    private static final int STATE = 4;
+    private static final int RULES = 5;
+    private static final int PLAYER = 6;
+    private static final int ID = 8;
+    private static final int STONES = 16;
+    private static final int COUNTS = 18;
+
+    /**
+     * Reads and writes slot versions with memory ordering.
+     */
+    private static final VarHandle VERSIONS = MethodHandles.byteBufferViewVarHandle(int[].class,
+        ByteOrder.BIG_ENDIAN);
+
+    /**
+     * The file holding the store.
+     */
+    private final RandomAccessFile file;
+    /**
+     * The mapped file.
+     */
+    private final MappedByteBuffer map;
+    /**
+     * The number of slots.
+     */
+    private final int capacity;
+    /**
+     * The number of games saved.
+     */
+    private final AtomicInteger size = new AtomicInteger();
+    /**
+     * The locks held while writing a slot, by slot stripe.
+     */
+    private final Object[] locks = new Object[STRIPES];
+    /**
+     * Held while taking a new slot for an id, so two saves cannot both take one.
+     */
+    private final Object claimLock = new Object();
+
+    /**
+     * Opens a store file, creating it with the given number of slots if it is
+     * new or empty.
+     *
+     * @param filename  The name of the file holding the store.
+     * @param slots     The number of games the store can hold.
+     * @throws IOException  If the file cannot be opened or mapped, or holds a store
+     *                      of another size.
+     */
+    public GameStore(final String filename, final int slots) throws IOException {
+        if (slots < 1 || slots > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Store Capacity Must Be Between 1 And " + MAX_CAPACITY);
+        }
+        file = new RandomAccessFile(filename, "rw");
+        try {
+            final long length = HEADER_BYTES + (long) slots * SLOT_BYTES;
+            final boolean isNew = file.length() == 0;
+            if (isNew) {
+                file.setLength(length);
+            } else if (file.length() != length) {
+                throw new IOException("Error - the store file does not hold " + slots + " slots");
+            }
+            map = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, length);
+            if (isNew) {
+                map.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, slots).putInt(12, SLOT_BYTES);
+            } else if (map.getInt(0) != MAGIC || map.getInt(4) != VERSION || map.getInt(8) != slots
+                || map.getInt(12) != SLOT_BYTES) {
+                throw new IOException("Error - the file is not a game store of this version");
+            }
+        } catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
+        capacity = slots;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        int used = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            final int base = offsetOf(slot);
+            final int version = map.getInt(base);
+            if ((version & 1) != 0) {
+                // a save or remove was cut off, so the slot's game may be torn
+                if (map.get(base + STATE) == USED) {
+                    map.put(base + STATE, REMOVED);
+                }
+                map.putInt(base, version + 1);
+            }
+            if (map.get(base + STATE) == USED) {
+                used++;
+            }
+        }
+        size.set(used);
+    }
+
+    /**
+     * Saves a game under an id, replacing any game saved under it before.
+     *
+     * @param gameId    The id of the game.
+     * @param game      The game to save; it must have started.
+     * @throws RuntimeException If the store is full.
+     */
+    public void save(final long gameId, final MancalaGame game) {
+        final GameRules rules = game.getBoard();
+        if (rules == null) {
+            throw new IllegalArgumentException("Only A Started Game Can Be Saved");
+        }
+        final int ruleSet = GameCodec.ruleSetOf(rules);
+        final MancalaDataStructure board = rules.getDataStructure();
+        final int stones = GameCodec.checkCount(board.getStartStones());
+        final int[] counts = new int[CompactBoard.NUM_SLOTS];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = GameCodec.checkCount(board.getSlotCount(i));
+        }
+        final int player = rules.getCurrentPlayer();
+
+        while (true) {
+            int slot = find(gameId);
+            if (slot < 0) {
+                synchronized (claimLock) {
+                    slot = find(gameId);
+                    if (slot < 0) {
+                        slot = claim(gameId);
+                        write(slot, USED, gameId, ruleSet, player, stones, counts);
+                        size.incrementAndGet();
+                        return;
+                    }
+                }
+            }
+            synchronized (locks[slot & (STRIPES - 1)]) {
+                // a remove may have come between finding the slot and locking it
+                if (holds(slot, gameId)) {
+                    write(slot, USED, gameId, ruleSet, player, stones, counts);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the game saved under an id, without players.
+     *
+     * @param gameId    The id of the game.
+     * @return  The game, or null if no game is saved under the id.
+     */
+    public MancalaGame load(final long gameId) {
+        return load(gameId, null, null);
+    }
+
+    /**
+     * Loads the game saved under an id and seats its players.
+     *
+     * @param gameId    The id of the game.
+     * @param playerOne The first player, or null to leave the game without players.
+     * @param playerTwo The second player.
+     * @return  The game, or null if no game is saved under the id.
+     */
+    public MancalaGame load(final long gameId, final Player playerOne, final Player playerTwo) {
+        final int[] counts = new int[CompactBoard.NUM_SLOTS];
+        final int[] header = new int[3];
+        for (int attempt = 1; ; attempt++) {
+            final int slot = find(gameId);
+            if (slot < 0) {
+                return null;
+            }
+            final int base = offsetOf(slot);
+            if (attempt > OPTIMISTIC_READS) {
+                // saves keep changing the slot, so wait for them on its lock instead of spinning
+                synchronized (locks[slot & (STRIPES - 1)]) {
+                    if (readSlot(base, gameId, header, counts)) {
+                        break;
+                    }
+                }
+                continue;
+            }
+            final int before = (int) VERSIONS.getAcquire(map, base);
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            final boolean same = readSlot(base, gameId, header, counts);
+            // the slot's reads must finish before the version is read again
+            VarHandle.acquireFence();
+            if ((int) VERSIONS.getAcquire(map, base) == before && same) {
+                break;
+            }
+        }
+        final int ruleSet = header[0];
+        final int player = header[1];
+        final int stones = header[2];
+
+        final MancalaGame game = new MancalaGame();
+        if (ruleSet == GameCodec.AYO) {
+            game.startAyoGame(stones);
+        } else {
+            game.startKalahGame(stones);
+        }
+        final GameRules rules = game.getBoard();
+        final MancalaDataStructure board = rules.getDataStructure();
+        for (int i = 0; i < counts.length; i++) {
+            board.addToSlot(i, counts[i] - board.getSlotCount(i));
+        }
+        rules.setPlayer(player);
+        if (playerOne != null && playerTwo != null) {
+            game.setPlayers(playerOne, playerTwo);
+        }
+        return game;
+    }
+
+    /**
+     * Checks whether a game is saved under an id.
+     *
+     * @param gameId    The id of the game.
+     * @return  True if a game is saved under the id.
+     */
+    public boolean contains(final long gameId) {
+        return find(gameId) >= 0;
+    }
+
+    /**
+     * Removes the game saved under an id.
+     *
+     * @param gameId    The id of the game.
+     * @return  True if a game was removed.
+     */
+    public boolean remove(final long gameId) {
+        final int slot = find(gameId);
+        if (slot < 0) {
+            return false;
+        }
+        synchronized (locks[slot & (STRIPES - 1)]) {
+            if (!holds(slot, gameId)) {
+                return false;
+            }
+            final int base = offsetOf(slot);
+            final int version = (int) VERSIONS.get(map, base) | 1;
+            VERSIONS.setOpaque(map, base, version);
+            VarHandle.storeStoreFence();
+            map.put(base + STATE, REMOVED);
+            VERSIONS.setRelease(map, base, version + 1);
+        }
+        size.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * Gets the number of games saved.
+     *
+     * @return  The number of games.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Gets the number of games the store can hold.
+     *
+     * @return  The number of slots.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Writes every changed slot to the disk.
+     */
+    public void force() {
+        map.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        file.close();
+    }
+
+    /*helper method to find the slot holding an id, or -1 if it is not saved*/
+    private int find(final long gameId) {
+        int slot = homeOf(gameId);
+        for (int probes = 0; probes < capacity; probes++) {
+            final int base = offsetOf(slot);
+            final byte state = map.get(base + STATE);
+            if (state == EMPTY) {
+                return -1;
+            }
+            if (state == USED && map.getLong(base + ID) == gameId) {
+                return slot;
+            }
+            slot = slot + 1 == capacity ? 0 : slot + 1;
+        }
+        return -1;
+    }
+
+    /*helper method to take the first free slot on an id's probe path, holding the claim lock*/
+    private int claim(final long gameId) {
+        int slot = homeOf(gameId);
+        for (int probes = 0; probes < capacity; probes++) {
+            if (map.get(offsetOf(slot) + STATE) != USED) {
+                return slot;
+            }
+            slot = slot + 1 == capacity ? 0 : slot + 1;
+        }
+        throw new RuntimeException("Game Store Full");
+    }
+
+    /*helper method to check a slot still holds an id*/
+    private boolean holds(final int slot, final long gameId) {
+        final int base = offsetOf(slot);
+        return map.get(base + STATE) == USED && map.getLong(base + ID) == gameId;
+    }
+
+    /*helper method to write a whole slot, making its version odd while it changes*/
+    private void write(final int slot, final byte state, final long gameId, final int ruleSet,
+        final int player, final int stones, final int[] counts) {
+        synchronized (locks[slot & (STRIPES - 1)]) {
+            final int base = offsetOf(slot);
+            // odd while writing and even after, whatever the version was left at
+            final int version = (int) VERSIONS.get(map, base) | 1;
+            VERSIONS.setOpaque(map, base, version);
+            VarHandle.storeStoreFence();
+            map.putLong(base + ID, gameId);
+            map.put(base + RULES, (byte) ruleSet);
+            map.put(base + PLAYER, (byte) player);
+            map.putShort(base + STONES, (short) stones);
+            for (int i = 0; i < counts.length; i++) {
+                map.putShort(base + COUNTS + 2 * i, (short) counts[i]);
+            }
+            // the state goes last, so probes never see a used slot with the old id
+            VarHandle.storeStoreFence();
+            map.put(base + STATE, state);
+            VERSIONS.setRelease(map, base, version + 1);
+        }
+    }
+
+    /*helper method to read a slot's rule set, player, stones and counts, and check it holds an id*/
+    private boolean readSlot(final int base, final long gameId, final int[] header, final int[] counts) {
+        header[0] = map.get(base + RULES);
+        header[1] = map.get(base + PLAYER);
+        header[2] = map.getShort(base + STONES) & 0xFFFF;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = map.getShort(base + COUNTS + 2 * i) & 0xFFFF;
+        }
+        return map.get(base + STATE) == USED && map.getLong(base + ID) == gameId;
+    }
+
+    /*helper method to spread an id over the slots*/
+    private int homeOf(final long gameId) {
+        long h = gameId * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return (int) Math.floorMod(h, (long) capacity);
+    }
+
+    /*helper method to get the byte offset of a slot*/
+    private static int offsetOf(final int slot) {
+        return HEADER_BYTES + slot * SLOT_BYTES;
+    }
+}
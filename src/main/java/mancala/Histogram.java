@@ -0,0 +1,197 @@
+package mancala;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative values, in log-linear buckets like
+ * HdrHistogram's: values below 8 have a bucket each, and every power of two
+ * above that is split into 8 buckets, so any value is placed within 12.5% of
+ * its true size. Each bucket is a LongAdder, so threads recording at once
+ * update separate cells instead of fighting over one counter.
+ */
+public class Histogram {
+
+    /*the number of bits of each value kept below its leading bit*/
+    private static final int SUB_BITS = 3;
+    /*the number of buckets per power of two*/
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    /**
+     * The number of buckets, enough for every long value.
+     */
+    static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+    /**
+     * The number of values in each bucket.
+     */
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+    /**
+     * The sum of every value recorded.
+     */
+    private final LongAdder sum = new LongAdder();
+    /**
+     * The largest value recorded.
+     */
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Creates an empty histogram.
+     */
+    public Histogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a value. Negative values are recorded as 0.
+     *
+     * @param value The value to record.
+     */
+    public void record(final long value) {
+        final long clamped = Math.max(0, value);
+        counts[bucketOf(clamped)].increment();
+        sum.add(clamped);
+        max.accumulate(clamped);
+    }
+
+    /**
+     * Removes every recorded value.
+     */
+    public void reset() {
+        for (LongAdder count : counts) {
+            count.reset();
+        }
+        sum.reset();
+        max.reset();
+    }
+
+    /**
+     * Takes a copy of the histogram. Values recorded while the copy is taken may
+     * or may not be in it.
+     *
+     * @return  The copy.
+     */
+    public Snapshot snapshot() {
+        final long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts[i].sum();
+        }
+        return new Snapshot(copy, sum.sum(), max.get());
+    }
+
+    /**
+     * Finds the bucket a value belongs in.
+     *
+     * @param value The non-negative value.
+     * @return  The bucket index.
+     */
+    static int bucketOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int mantissa = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + mantissa;
+    }
+
+    /**
+     * Finds the largest value a bucket holds.
+     *
+     * @param bucket    The bucket index.
+     * @return  The largest value placed in the bucket.
+     */
+    static long highestValueIn(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        final long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BITS);
+        return lowest + (1L << (exponent - SUB_BITS)) - 1;
+    }
+
+    /**
+     * An unchanging copy of a histogram.
+     */
+    public static class Snapshot {
+
+        /**
+         * The number of values in each bucket.
+         */
+        private final long[] counts;
+        /**
+         * The number of values.
+         */
+        private final long count;
+        /**
+         * The sum of the values.
+         */
+        private final long sum;
+        /**
+         * The largest value.
+         */
+        private final long max;
+
+        /*creates a snapshot from bucket counts, their sum and the largest value*/
+        private Snapshot(final long[] bucketCounts, final long total, final long largest) {
+            counts = bucketCounts;
+            long values = 0;
+            for (long bucketCount : bucketCounts) {
+                values += bucketCount;
+            }
+            count = values;
+            sum = total;
+            max = largest;
+        }
+
+        /**
+         * Gets the number of values.
+         *
+         * @return  The count.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Gets the mean of the values.
+         *
+         * @return  The mean, or 0 with no values.
+         */
+        public double getMean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * Gets the largest value.
+         *
+         * @return  The largest value, or 0 with no values.
+         */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * Gets the value that a percentage of the values are at or below, to the
+         * precision of the buckets.
+         *
+         * @param percentile    The percentage, from 0 to 100.
+         * @return  The highest value of the bucket holding the percentile, or 0 with
+         *          no values.
+         */
+        public long getValueAtPercentile(final double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(Math.min(100, percentile) / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(highestValueIn(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -13,6 +13,29 @@ public class KalahRules extends GameRules {
         super();
     }
 
+    /**
+     * Makes a KalahRules object with a number of stones in every pit at the start.
+     * 
+     * @param startStones   The number of stones in each pit at the start of the game.
+     */
+    public KalahRules(final int startStones) {
+        super(startStones);
+    }
+
+    /**
+     * Makes a KalahRules object holding a copy of another's board and turn state.
+     * 
+     * @param source    The rules to copy.
+     */
+    public KalahRules(final KalahRules source) {
+        super(source);
+    }
+
+    @Override
+    public KalahRules copy() {
+        return new KalahRules(this);
+    }
+
     /**
      * Completes a move using Kalah rules.
      * 
@@ -21,11 +44,16 @@ public class KalahRules extends GameRules {
      */
     @Override
     public int moveStones(final int startPit, final int playerNum) throws InvalidMoveException {
+        final EngineMetrics metrics = EngineMetrics.current();
+        final long start = metrics == null ? 0 : System.nanoTime();
         checkForInvalidMove(startPit, playerNum);
         setPlayer(playerNum);
 
         final int initialStoneCount = getDataStructure().getStoreCount(playerNum);
-        distributeStones(startPit);
+        final int sown = distributeStones(startPit);
+        if (metrics != null) {
+            metrics.recordMove(System.nanoTime() - start, sown, getPlayer() == playerNum);
+        }
         
         return getDataStructure().getStoreCount(playerNum) - initialStoneCount;
     }
@@ -42,29 +70,63 @@ public class KalahRules extends GameRules {
             throw new RuntimeException("Pit Number Out of Range");
         }
 
-        // take the stones out of the starting pit
+        // take the stones out of the starting pit and sow them across the board
         final int stoneToMove = getDataStructure().removeStones(startPit);
-        getDataStructure().setIterator(startPit, getPlayer(), false);
+        final int lastSlot = sowFrom(getDataStructure(), startPit, stoneToMove, getPlayer());
 
-        // physically distribute the stones across the board
-        Countable currentSpot = null;
-        for (int i = 0; i<stoneToMove; i++) {
-            currentSpot = getDataStructure().next();
-            currentSpot.addStone();
-        }
-        
         // check for a steal
-        checkForSteal(currentSpot);
-        if (doPerformSteal()) {
-            setPerformSteal(false);
-            captureStones(getLastPitIndex());
+        if (lastSlot != PLAYER_ONE && lastSlot != PLAYER_TWO) {
+            setLastPitIndex(CompactBoard.pitOf(lastSlot));
+            if (isCapture(getDataStructure(), lastSlot, getPlayer())) {
+                recordCapture(captureStones(getLastPitIndex()));
+            }
         }
         // check for giving an extra turn
-        checkForExtraTurn(currentSpot);
+        if (lastSlot != CompactBoard.storeSlot(getPlayer())) {
+            swapPlayers();
+        }
         
         return stoneToMove;
     }
 
+    /**
+     * Plays a move on the given board using Kalah rules, including any capture,
+     * without touching this game's own board or current player.
+     * 
+     * @param board     The board to play the move on.
+     * @param startPit  The pit to start the move from.
+     * @param playerNum The player making the move (1 or 2).
+     * @return  The player who moves next, which is the same player after an extra turn.
+     */
+    @Override
+    public int playMove(final StoneBoard board, final int startPit, final int playerNum) {
+        final int lastSlot = sowFrom(board, startPit, board.removeStones(startPit), playerNum);
+
+        // the last stone in the player's own store gives them an extra turn
+        if (lastSlot == CompactBoard.storeSlot(playerNum)) {
+            return playerNum;
+        }
+        if (isCapture(board, lastSlot, playerNum)) {
+            final int captured = board.removeStones(CompactBoard.pitOf(CompactBoard.oppositeSlot(lastSlot)))
+                + board.removeStones(CompactBoard.pitOf(lastSlot));
+            board.addToStore(playerNum, captured);
+        }
+        return otherPlayer(playerNum);
+    }
+
+    /**
+     * Sows stones picked up from a pit, skipping only the opponent's store.
+     * 
+     * @param board     The board to sow the stones on.
+     * @param startPit  The pit the stones were picked up from.
+     * @param stones    The number of stones to sow.
+     * @param playerNum The player making the move.
+     * @return  The slot index the last stone was sown into.
+     */
+    private int sowFrom(final StoneBoard board, final int startPit, final int stones, final int playerNum) {
+        return sow(board, CompactBoard.slotOf(startPit), stones, CompactBoard.storeSlot(otherPlayer(playerNum)), -1);
+    }
+
     /**
      * Captures stones from the across pit using Kalah rules, and puts them in the player's store.
      * 
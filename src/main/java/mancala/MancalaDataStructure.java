@@ -1,5 +1,7 @@
 package mancala;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
@@ -10,13 +12,19 @@ import java.util.List;
  * You may add methods if you need them.
  * Do not add game logic to this class
  */
-public class MancalaDataStructure implements Serializable, PlayerPositions {
+public class MancalaDataStructure implements Serializable, PlayerPositions, StoneBoard {
     private static final long serialVersionUID = -5645683611478329210L;
 
     /**
-     * The number of stones each pit will have at the start of the game
+     * The number of stones each pit has at the start of a game when none is given.
      */
-    private static int START_STONES = 4;  //not final because we might want a different size board in the future
+    public static final int DEFAULT_START_STONES = 4;
+
+    /**
+     * The number of stones each pit will have at the start of the game. It belongs to
+     * each board, so boards made at the same time with different counts do not interfere.
+     */
+    private int startStones;
 
     /**
      * The list of countable objects on the board.
@@ -34,6 +42,10 @@ public class MancalaDataStructure implements Serializable, PlayerPositions {
      * Indicates which pit we are to skip (the starting pit) when using the ayo rules.
      */
     private int pitSkip = -1; // will never match the iteratorPos unless set specifically
+    /**
+     * The Zobrist-style hash of the stone counts, kept up to date as stones are added and removed.
+     */
+    private transient long zobristHash = 0;
 
     /**
      * Constructor to initialize the MancalaDataStructure.
@@ -41,7 +53,7 @@ public class MancalaDataStructure implements Serializable, PlayerPositions {
      * @param startStones The number of stones to place in pits at the start of the game. Default values is 4.
      */
     public MancalaDataStructure(final int startStones){
-        START_STONES = startStones;
+        this.startStones = startStones;
         for (int i = 0; i < PLAYER_ONE; i++) {
             data.add(new Pit());
         }
@@ -56,7 +68,52 @@ public class MancalaDataStructure implements Serializable, PlayerPositions {
      * Constructor to initialize the MancalaDataStructure.
      */
     public MancalaDataStructure() {
-        this(4);
+        this(DEFAULT_START_STONES);
+    }
+
+    /**
+     * Constructor to copy the stone counts of another MancalaDataStructure into
+     * new pits and stores. The stores keep their owners but are not connected to them.
+     * 
+     * @param source    The data structure to copy.
+     */
+    private MancalaDataStructure(final MancalaDataStructure source) {
+        for (int i = 0; i <= PLAYER_TWO; i++) {
+            final Countable countable = source.data.get(i);
+            final Countable copy;
+            if (isStore(countable)) {
+                final Store store = new Store();
+                final Player owner = ((Store) countable).getOwner();
+                if (owner != null) {
+                    store.setOwner(owner);
+                }
+                copy = store;
+            } else {
+                copy = new Pit();
+            }
+            copy.addStones(countable.getStoneCount());
+            data.add(copy);
+        }
+        zobristHash = source.zobristHash;
+        startStones = source.startStones;
+    }
+
+    /**
+     * Makes a copy of the board holding the same stone counts and number of starting stones.
+     * 
+     * @return  The copy of the board.
+     */
+    public MancalaDataStructure copy() {
+        return new MancalaDataStructure(this);
+    }
+
+    /**
+     * Gets the number of stones each pit has at the start of the game.
+     *
+     * @return  The number of starting stones.
+     */
+    public int getStartStones() {
+        return startStones;
     }
 
     /**
@@ -67,8 +124,10 @@ public class MancalaDataStructure implements Serializable, PlayerPositions {
      * @return The current number of stones in the pit.
      */
     public int addStones(final int pitNum, final int numToAdd) {
-        final Countable pit = data.get(pitPos(pitNum));
+        final int pos = pitPos(pitNum);
+        final Countable pit = data.get(pos);
         pit.addStones(numToAdd);
+        zobristHash += numToAdd * ZobristKeys.slotKey(pos);
         return pit.getStoneCount();
     }
 
@@ -79,8 +138,10 @@ public class MancalaDataStructure implements Serializable, PlayerPositions {
      * @return The number of stones removed.
      */
     public int removeStones(final int pitNum) {
-        final Countable pit = data.get(pitPos(pitNum));
-        return pit.removeStones();
+        final int pos = pitPos(pitNum);
+        final int stones = data.get(pos).removeStones();
+        zobristHash -= stones * ZobristKeys.slotKey(pos);
+        return stones;
     }
 
     /**
@@ -91,8 +152,10 @@ public class MancalaDataStructure implements Serializable, PlayerPositions {
      * @return The current number of stones in the store.
      */
     public int addToStore(final int playerNum, final int numToAdd) {
-        final Countable store = data.get(storePos(playerNum));
+        final int pos = storePos(playerNum);
+        final Countable store = data.get(pos);
         store.addStones(numToAdd);
+        zobristHash += numToAdd * ZobristKeys.slotKey(pos);
         return store.getStoneCount();
     }
 
@@ -118,6 +181,32 @@ public class MancalaDataStructure implements Serializable, PlayerPositions {
         return pit.getStoneCount();
     }    
 
+    /**
+     * Gets the stone count in a slot of the board.
+     *
+     * @param slot  The slot index (0 to 13).
+     * @return The stone count in the slot.
+     */
+    @Override
+    public int getSlotCount(final int slot) {
+        return data.get(slot).getStoneCount();
+    }
+
+    /**
+     * Adds stones to a slot of the board, whether it is a pit or a store.
+     *
+     * @param slot      The slot index (0 to 13).
+     * @param numToAdd  The number of stones to add.
+     * @return The current number of stones in the slot.
+     */
+    @Override
+    public int addToSlot(final int slot, final int numToAdd) {
+        final Countable countable = data.get(slot);
+        countable.addStones(numToAdd);
+        zobristHash += numToAdd * ZobristKeys.slotKey(slot);
+        return countable.getStoneCount();
+    }
+
     /*helper method to convert 1 based pit numbers into array positions*/
     private int pitPos(final int pitNum) {
         /*Runtime execeptions don't need to be declared and are
@@ -162,8 +251,8 @@ public class MancalaDataStructure implements Serializable, PlayerPositions {
      * Empties both players' stores.
      */
     public void emptyStores() {
-        data.set(storePos(1), new Store());
-        data.set(storePos(2), new Store());
+        setStore(new Store(), 1);
+        setStore(new Store(), 2);
     }
 
     /**
@@ -172,13 +261,14 @@ public class MancalaDataStructure implements Serializable, PlayerPositions {
     public void setUpPits() {
         for (int i = 0; i < PLAYER_ONE; i++) {
             data.get(i).removeStones();
-            data.get(i).addStones(START_STONES);
+            data.get(i).addStones(startStones);
         }
 
         for (int i = 7; i < PLAYER_TWO; i++) {
             data.get(i).removeStones();
-            data.get(i).addStones(START_STONES);
+            data.get(i).addStones(startStones);
         }
+        zobristHash = ZobristKeys.hashOf(this);
     }
 
     /**
@@ -188,7 +278,32 @@ public class MancalaDataStructure implements Serializable, PlayerPositions {
      * @param playerNum The player number (1 or 2).
      */
     public void setStore(final Countable store, final int playerNum) {
-        data.set(storePos(playerNum), store);
+        final int pos = storePos(playerNum);
+        final int change = store.getStoneCount() - data.get(pos).getStoneCount();
+        data.set(pos, store);
+        zobristHash += change * ZobristKeys.slotKey(pos);
+    }
+
+    /**
+     * Gets the Zobrist-style hash of the stone counts on the board. It is updated
+     * in constant time by every method of this class that adds or removes stones,
+     * but not by stones added straight to the countables returned by next().
+     *
+     * @return  The hash of the stone counts.
+     */
+    @Override
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    /*restores the hash, which is not saved with the board*/
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        // boards saved before the count was kept per board used the default
+        if (startStones == 0) {
+            startStones = DEFAULT_START_STONES;
+        }
+        zobristHash = ZobristKeys.hashOf(this);
     }
     /*helper method for wrapping the iterator around to the beginning again*/
     private void loopIterator() {
@@ -397,38 +512,6 @@ public class MancalaDataStructure implements Serializable, PlayerPositions {
      */
     @Override
     public String toString() {
-        return playerTwoStoreString() + playerTwoPitsString() + playerOnePitsString() + playerOneStoreString();
-    }
-
-    private String playerOnePitsString() {
-        String string = "\n\t\t\t";
-        for (int i = 1; i <= 6; i++) {
-            try {
-                string += "[" + i + "]: " + getNumStones(i) + "\t";
-            } catch (Exception e) {
-                System.out.println("Error - pit " + (i + 1) + " was not found");
-            }
-        }
-        return string;
-    }
-
-    private String playerOneStoreString() {
-        return "   " + "Player One's Store: " + getStoreCount(1);
-    } 
-    
-    private String playerTwoPitsString() {
-        String string = "\t";
-        for (int i = 12; i >= 7; i--) {
-            try {
-                string += "[" + i + "]: " + getNumStones(i) + "\t";
-            } catch (Exception e) {
-                System.out.println("Error - pit " + (i + 1) + " was not found");
-            }
-        }
-        return string;
-    }
-
-    private String playerTwoStoreString() {
-        return "Player Two's Store: " + getStoreCount(2);
+        return BoardRenderer.appendBoard(new StringBuilder(BoardRenderer.BOARD_CAPACITY), this).toString();
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,8 @@
 package mancala;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.util.List;
 
 /**
  * Class used to hold all components of a game and perform different
@@ -21,6 +23,22 @@ public class MancalaGame implements Serializable, PlayerPositions {
      * The second player of the game.
      */
     private Player playerTwo;
+    /**
+     * Whether the game rules are shared with a snapshot, so they must be copied before they change.
+     */
+    private transient boolean rulesShared = false;
+    /**
+     * Whether this game is a snapshot of another game, which keeps the players connected to its stores.
+     */
+    private transient boolean isSnapshot = false;
+    /**
+     * The opening books consulted for moves near the start of the game.
+     */
+    private transient List<OpeningBook> openingBooks = List.of();
+    /**
+     * The journal every move is added to, or null if moves are not journaled.
+     */
+    private transient MoveJournal journal;
 
     /**
      * Gets the board/game rules of the game.
@@ -38,29 +56,93 @@ public class MancalaGame implements Serializable, PlayerPositions {
      */
     protected void setBoard(final GameRules board) {
         gameRules = board;
+        rulesShared = false;
+        snapshotJournal();
     }
 
     /**
      * Starts a new game with the Kalah rule set.
      */
     public void startKalahGame() {
-        gameRules = new KalahRules();
+        setBoard(new KalahRules());
     }
 
     /**
      * Starts a new game with the Ayo rule set.
      */
     public void startAyoGame() {
-        gameRules = new AyoRules();
+        setBoard(new AyoRules());
+    }
+
+    /**
+     * Starts a new game with the Kalah rule set and a number of stones in every pit.
+     * 
+     * @param startStones   The number of stones in each pit at the start.
+     */
+    public void startKalahGame(final int startStones) {
+        setBoard(new KalahRules(startStones));
+    }
+
+    /**
+     * Starts a new game with the Ayo rule set and a number of stones in every pit.
+     * 
+     * @param startStones   The number of stones in each pit at the start.
+     */
+    public void startAyoGame(final int startStones) {
+        setBoard(new AyoRules(startStones));
     }
 
     /**
      * Starts a new game by resetting the board.
      */
     public void startNewGame() {
-        gameRules.resetBoard();
+        writableRules().resetBoard();
+        snapshotJournal();
     } 
 
+    /*helper method to record a change that is not a move as a journal snapshot*/
+    private void snapshotJournal() {
+        if (journal != null) {
+            journal.snapshot(this);
+        }
+    }
+
+    /**
+     * Takes a copy-on-write snapshot of the game. The snapshot and this game share
+     * their game rules until either one changes, at which point only the one changing
+     * copies the counters and turn state, so taking a snapshot is constant time. The
+     * snapshot shares this game's players, but they stay connected to this game's stores.
+     * 
+     * @return  The snapshot of the game.
+     */
+    public MancalaGame snapshot() {
+        final MancalaGame snapshot = new MancalaGame();
+        snapshot.gameRules = gameRules;
+        snapshot.playerOne = playerOne;
+        snapshot.playerTwo = playerTwo;
+        snapshot.rulesShared = true;
+        snapshot.isSnapshot = true;
+        snapshot.openingBooks = openingBooks;
+        rulesShared = true;
+        return snapshot;
+    }
+
+    /**
+     * Gets the game rules for a change, copying them first if they are shared with a snapshot.
+     * 
+     * @return  The game rules, which are no longer shared.
+     */
+    private GameRules writableRules() {
+        if (rulesShared) {
+            gameRules = gameRules.copy();
+            rulesShared = false;
+            if (!isSnapshot && playerOne != null && playerTwo != null) {
+                gameRules.connectPlayersToStores(playerOne, playerTwo);
+            }
+        }
+        return gameRules;
+    }
+
     /**
      * Gets the current player object in the game.
      * 
@@ -98,7 +180,7 @@ public class MancalaGame implements Serializable, PlayerPositions {
      */
     public Player getWinner() throws GameNotOverException {
         Player winner = null;
-        final int winnerNum = gameRules.getWinner();
+        final int winnerNum = writableRules().getWinner();
         
         if (winnerNum == PLAYER_ONE_NUM) {
             winner = playerOne;
@@ -141,18 +223,30 @@ public class MancalaGame implements Serializable, PlayerPositions {
      * Ends the game by moving all stones into the stores.
      */
     protected void endGame() {
-        gameRules.moveFinalStonesIntoStores();
+        writableRules().moveFinalStonesIntoStores();
     }
 
     /**
-     * Makes a move for the current player.
+     * Makes a move for the current player. If the game has a journal that cannot
+     * record the move, the move is taken back and a RuntimeException is thrown.
      * 
      * @param startPit  The pit to start from.
      * @return  The number of stones in the current player's pits.
      * @throws  InvalidMoveException If the move is invalid.
      */
     public int move(final int startPit) throws InvalidMoveException {
-        gameRules.moveStones(startPit, gameRules.getCurrentPlayer());
+        if (journal == null) {
+            writableRules().moveStones(startPit, gameRules.getCurrentPlayer());
+        } else {
+            final UndoRecord undo = writableRules().applyMove(startPit);
+            try {
+                journal.append(this, startPit);
+            } catch (IOException e) {
+                // the journal has dropped the move, so the game takes it back too
+                gameRules.undoMove(undo);
+                throw new RuntimeException("Journal Write Failed", e);
+            }
+        }
 
         return gameRules.sumStonesInPlayersPits(gameRules.getCurrentPlayer());
     }
@@ -166,7 +260,8 @@ public class MancalaGame implements Serializable, PlayerPositions {
     public void setPlayers(final Player onePlayer, final Player twoPlayer) {
         playerOne = onePlayer;
         playerTwo = twoPlayer;
-        gameRules.connectPlayersToStores(playerOne, playerTwo);
+        writableRules().connectPlayersToStores(playerOne, playerTwo);
+        snapshotJournal();
     }
 
     /**
@@ -181,7 +276,8 @@ public class MancalaGame implements Serializable, PlayerPositions {
         } else {
             playerTwo = onePlayer;
         }
-        gameRules.connectPlayersToStores(playerOne, playerTwo);
+        writableRules().connectPlayersToStores(playerOne, playerTwo);
+        snapshotJournal();
     }
 
     /**
@@ -194,6 +290,35 @@ public class MancalaGame implements Serializable, PlayerPositions {
         return gameRules.getNumStones(pitNum);
     }
 
+    /**
+     * Sets the journal that every move is added to. MoveJournal.create and
+     * MoveJournal.open set it themselves.
+     * 
+     * @param moveJournal   The journal, or null to stop journaling moves.
+     */
+    public void setJournal(final MoveJournal moveJournal) {
+        journal = moveJournal;
+    }
+
+    /**
+     * Gets the journal that every move is added to.
+     * 
+     * @return  The journal, or null if moves are not journaled.
+     */
+    public MoveJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Gets one of the players of the game.
+     * 
+     * @param playerNum The number of the player (1 or 2).
+     * @return  The player, or null if it has not been set.
+     */
+    Player getPlayer(final int playerNum) {
+        return playerNum == PLAYER_ONE_NUM ? playerOne : playerTwo;
+    }
+
     /**
      * Returns the name of player one.
      * 
@@ -246,7 +371,8 @@ public class MancalaGame implements Serializable, PlayerPositions {
      * @param playerNum The number of the current player
      */
     public void setPlayer(final int playerNum) {
-        gameRules.setPlayer(playerNum);
+        writableRules().setPlayer(playerNum);
+        snapshotJournal();
     }
 
     /**
@@ -259,18 +385,91 @@ public class MancalaGame implements Serializable, PlayerPositions {
         return gameRules.getStoreCount(playerNum);
     }
 
-    @Override
-    public String toString() {
-        // TO DO: implement gameString
-        String gameString = "\t\t\t\t\tMancala\t\t\t\t\t\n";
-        for (int i = 0; i < 100; i++) {
-            gameString += "-";
+    /**
+     * Gets a copy of the game rules, holding the board and turn state, which can
+     * be analysed or played on without affecting this game.
+     *
+     * @return A copy of the game rules.
+     */
+    public GameRules copyRules() {
+        return gameRules.copy();
+    }
+
+    /**
+     * Gets a hash identifying the position of the game: the stone counts on
+     * the board and the player to move.
+     *
+     * @return The hash of the position.
+     */
+    public long getPositionHash() {
+        return gameRules.getPositionHash();
+    }
+
+    /**
+     * Gets a compact copy of the board, which can be played on without affecting this game.
+     *
+     * @return A copy of the stone counts.
+     */
+    public CompactBoard toCompactBoard() {
+        return gameRules.toCompactBoard();
+    }
+
+    /**
+     * Plays a move with this game's rules on another board, leaving the game unchanged.
+     *
+     * @param board     The board to play the move on.
+     * @param startPit  The pit to start from; it must be one of the player's non-empty pits.
+     * @param playerNum The player making the move (1 or 2).
+     * @return The player to move next.
+     */
+    public int simulateMove(final StoneBoard board, final int startPit, final int playerNum) {
+        return gameRules.playMove(board, startPit, playerNum);
+    }
+
+    /**
+     * Sets the opening book consulted by getBookMove.
+     *
+     * @param book The opening book, or null to stop using one.
+     */
+    public void setOpeningBook(final OpeningBook book) {
+        openingBooks = book == null ? List.of() : List.of(book);
+    }
+
+    /**
+     * Sets the opening books consulted by getBookMove, such as every book loaded
+     * at startup; the ones for the game's rules are used.
+     *
+     * @param books The opening books.
+     */
+    public void setOpeningBooks(final List<OpeningBook> books) {
+        openingBooks = List.copyOf(books);
+    }
+
+    /**
+     * Gets the move the opening books give for the current position, without searching.
+     *
+     * @return The best pit from a book, or -1 if there is no book for these
+     *         rules or the position is not in one.
+     */
+    public int getBookMove() {
+        if (openingBooks == null) {
+            // a game read from a file has no books until they are set again
+            return -1;
         }
-        gameString += "\n" + gameRules.getDataStructure().toString() + "\n";
-        for (int i = 0; i < 100; i++) {
-            gameString += "-";
+        final long key = gameRules.getPositionHash();
+        for (final OpeningBook book : openingBooks) {
+            if (book.isFor(gameRules)) {
+                final int pit = book.getMove(key);
+                if (pit != -1) {
+                    return pit;
+                }
+            }
         }
-        
-        return gameString;
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return BoardRenderer.appendGame(new StringBuilder(BoardRenderer.GAME_CAPACITY), this).toString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,479 @@
+package mancala;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * An append-only write-ahead log of one game's moves. Every move made through
+ * MancalaGame.move adds a single byte to the journal, and every few moves a
+ * snapshot of the whole game (in the GameCodec format) is added, so rebuilding
+ * the game never replays more than the moves since the last snapshot.
+ *
+ * Records are buffered in memory and written and forced to disk together by
+ * commit. Commits are grouped: the journal commits by itself once a number of
+ * moves are waiting or the game ends, and when several threads commit at once,
+ * one of them writes and forces everything waiting while the others wait for
+ * it, so each force covers as many records as possible.
+ *
+ * Layout: the magic number and a version byte, then records. A move is one byte,
+ * 0x80 plus the pit. A snapshot is the byte 1, the length of the encoded game as
+ * an unsigned short, the encoded game and its CRC32C. A crash can leave a torn
+ * record at the end, which open and replay ignore.
+ */
+public class MoveJournal implements Closeable {
+
+    /**
+     * The first four bytes of a journal, "MNJ1".
+     */
+    public static final int MAGIC = 0x4D4E4A31;
+    /**
+     * The version of the journal layout.
+     */
+    public static final int VERSION = 1;
+    /**
+     * The default number of moves between snapshots.
+     */
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 64;
+    /**
+     * The default number of moves waiting before the journal commits by itself.
+     */
+    public static final int DEFAULT_GROUP_SIZE = 8;
+
+    /*the number of bytes before the first record*/
+    private static final int HEADER_BYTES = 5;
+    /*the bit set in every move record*/
+    private static final int MOVE_FLAG = 0x80;
+    /*the first byte of a snapshot record*/
+    private static final int SNAPSHOT = 1;
+    /*the bytes of a snapshot record around the encoded game*/
+    private static final int SNAPSHOT_OVERHEAD = 7;
+
+    /**
+     * The journal file, positioned at its end.
+     */
+    private final FileChannel channel;
+    /**
+     * The number of moves between snapshots.
+     */
+    private final int snapshotInterval;
+    /**
+     * The number of moves waiting before the journal commits by itself.
+     */
+    private final int groupSize;
+    /**
+     * Held while writing and forcing, so only one commit writes at a time.
+     */
+    private final Object commitLock = new Object();
+    /**
+     * The records not yet handed to a commit, guarded by this journal's lock.
+     */
+    private byte[] pending = new byte[64];
+    /**
+     * The length of the waiting records.
+     */
+    private int pendingLength;
+    /**
+     * A second buffer, swapped with the pending one by each commit.
+     */
+    private byte[] spare = new byte[64];
+    /**
+     * The number of records ever appended.
+     */
+    private long appended;
+    /**
+     * The number of records known to be on disk, guarded by the commit lock.
+     */
+    private long durable;
+    /**
+     * The number of moves appended since the last snapshot.
+     */
+    private int movesSinceSnapshot;
+    /**
+     * The number of moves appended since the last commit.
+     */
+    private int uncommitted;
+    /**
+     * The game whose moves are journaled.
+     */
+    private MancalaGame game;
+
+    /*creates a journal writing at the end of an open file*/
+    private MoveJournal(final FileChannel file, final int interval, final int group) {
+        if (interval < 1 || group < 1) {
+            throw new IllegalArgumentException("Snapshot Interval And Group Size Must Be At Least 1");
+        }
+        channel = file;
+        snapshotInterval = interval;
+        groupSize = group;
+    }
+
+    /**
+     * Starts a new journal for a game with the default intervals, replacing any
+     * file of the same name, and attaches it to the game.
+     *
+     * @param filename  The journal file.
+     * @param toJournal The game, whose current state is the first snapshot.
+     * @return  The journal.
+     * @throws IOException  If the file cannot be written.
+     */
+    public static MoveJournal create(final String filename, final MancalaGame toJournal) throws IOException {
+        return create(filename, toJournal, DEFAULT_SNAPSHOT_INTERVAL, DEFAULT_GROUP_SIZE);
+    }
+
+    /**
+     * Starts a new journal for a game, replacing any file of the same name, and
+     * attaches it to the game.
+     *
+     * @param filename  The journal file.
+     * @param toJournal The game, whose current state is the first snapshot.
+     * @param interval  The number of moves between snapshots.
+     * @param group     The number of moves waiting before the journal commits by itself.
+     * @return  The journal.
+     * @throws IOException  If the file cannot be written.
+     */
+    public static MoveJournal create(final String filename, final MancalaGame toJournal, final int interval,
+        final int group) throws IOException {
+        final FileChannel file = FileChannel.open(Path.of(filename), StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        final MoveJournal journal;
+        try {
+            journal = new MoveJournal(file, interval, group);
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).put((byte) VERSION);
+            header.flip();
+            file.write(header);
+        } catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
+        synchronized (journal) {
+            journal.putSnapshot(GameCodec.encode(toJournal));
+        }
+        journal.commit();
+        journal.attach(toJournal);
+        return journal;
+    }
+
+    /**
+     * Opens an existing journal with the default intervals, rebuilding its game
+     * and dropping any torn record at its end. The game is attached to the
+     * journal, so its further moves are added.
+     *
+     * @param filename  The journal file.
+     * @return  The journal; getGame gives the rebuilt game.
+     * @throws IOException  If the file cannot be read or is not a journal.
+     */
+    public static MoveJournal open(final String filename) throws IOException {
+        return open(filename, DEFAULT_SNAPSHOT_INTERVAL, DEFAULT_GROUP_SIZE);
+    }
+
+    /**
+     * Opens an existing journal, rebuilding its game and dropping any torn record
+     * at its end. The game is attached to the journal, so its further moves are added.
+     *
+     * @param filename  The journal file.
+     * @param interval  The number of moves between snapshots.
+     * @param group     The number of moves waiting before the journal commits by itself.
+     * @return  The journal; getGame gives the rebuilt game.
+     * @throws IOException  If the file cannot be read or is not a journal.
+     */
+    public static MoveJournal open(final String filename, final int interval, final int group)
+        throws IOException {
+        final Replay replay = new Replay(Files.readAllBytes(Path.of(filename)));
+        final FileChannel file = FileChannel.open(Path.of(filename), StandardOpenOption.WRITE);
+        final MoveJournal journal;
+        try {
+            file.truncate(replay.validEnd);
+            file.position(replay.validEnd);
+            file.force(false);
+            journal = new MoveJournal(file, interval, group);
+        } catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
+        journal.movesSinceSnapshot = replay.movesReplayed;
+        journal.attach(replay.game);
+        return journal;
+    }
+
+    /**
+     * Rebuilds the game in a journal without changing the file: the last whole
+     * snapshot, with every move after it replayed through the game rules.
+     *
+     * @param filename  The journal file.
+     * @return  The game as of the last whole record.
+     * @throws IOException  If the file cannot be read or is not a journal.
+     */
+    public static MancalaGame replay(final String filename) throws IOException {
+        return new Replay(Files.readAllBytes(Path.of(filename))).game;
+    }
+
+    /**
+     * Gets the game whose moves are journaled.
+     *
+     * @return  The game, or null once the journal is closed.
+     */
+    public MancalaGame getGame() {
+        return game;
+    }
+
+    /**
+     * Adds a move the game has just made, with a snapshot if one is due. The
+     * journal commits once enough moves are waiting or the game is over. If that
+     * commit fails, the move is taken back out of the journal, so the caller can
+     * take it back out of the game as well.
+     *
+     * @param played    The game, after the move.
+     * @param pit       The pit the move started from.
+     * @throws IOException  If a commit fails.
+     */
+    public void append(final MancalaGame played, final int pit) throws IOException {
+        final boolean commitNow;
+        final int added;
+        final long startAppended;
+        final int startMoves;
+        final int startUncommitted;
+        synchronized (this) {
+            final int startLength = pendingLength;
+            startAppended = appended;
+            startMoves = movesSinceSnapshot;
+            startUncommitted = uncommitted;
+            put((byte) (MOVE_FLAG | pit));
+            appended++;
+            if (++movesSinceSnapshot >= snapshotInterval) {
+                putSnapshot(GameCodec.encode(played));
+            }
+            // isGameOver would sweep the last stones in the middle of the move, so only look
+            final GameRules rules = played.getBoard();
+            commitNow = ++uncommitted >= groupSize || rules.isSideEmpty(1) || rules.isSideEmpty(2);
+            added = pendingLength - startLength;
+        }
+        if (commitNow) {
+            try {
+                commit();
+            } catch (IOException e) {
+                // the failed commit put its records back, so this move's records are the last ones
+                synchronized (this) {
+                    pendingLength -= added;
+                    appended = startAppended;
+                    movesSinceSnapshot = startMoves;
+                    uncommitted = startUncommitted;
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Adds a snapshot of the game now, so that replay starts from here.
+     *
+     * @param played    The game to snapshot.
+     */
+    public synchronized void snapshot(final MancalaGame played) {
+        putSnapshot(GameCodec.encode(played));
+    }
+
+    /**
+     * Writes every record appended so far and forces them to disk. If another
+     * thread is already committing, this waits for it and then commits whatever
+     * that commit did not cover.
+     *
+     * @throws IOException  If the file cannot be written.
+     */
+    public void commit() throws IOException {
+        final long target;
+        synchronized (this) {
+            target = appended;
+        }
+        synchronized (commitLock) {
+            if (durable >= target) {
+                return;
+            }
+            final byte[] batch;
+            final int length;
+            final long batchEnd;
+            final int batchUncommitted;
+            synchronized (this) {
+                batch = pending;
+                length = pendingLength;
+                batchEnd = appended;
+                batchUncommitted = uncommitted;
+                pending = spare;
+                pendingLength = 0;
+                uncommitted = 0;
+            }
+            long start = -1;
+            try {
+                start = channel.position();
+                final ByteBuffer buffer = ByteBuffer.wrap(batch, 0, length);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                restore(batch, length, batchUncommitted, start, e);
+                throw e;
+            }
+            durable = batchEnd;
+            spare = batch;
+        }
+    }
+
+    /**
+     * Commits what is waiting, detaches the game and closes the file.
+     *
+     * @throws IOException  If the last commit or the close fails.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            commit();
+        } finally {
+            if (game != null && game.getJournal() == this) {
+                game.setJournal(null);
+            }
+            game = null;
+            channel.close();
+        }
+    }
+
+    /*helper method to cut the file back to where a failed commit started, if known, and put its batch back in front of the waiting records*/
+    private void restore(final byte[] batch, final int length, final int batchUncommitted, final long start,
+        final IOException failure) {
+        if (start >= 0) {
+            try {
+                channel.truncate(start);
+                channel.position(start);
+            } catch (IOException e) {
+                failure.addSuppressed(e);
+            }
+        }
+        synchronized (this) {
+            final byte[] merged = Arrays.copyOf(batch, Math.max(batch.length, length + pendingLength));
+            System.arraycopy(pending, 0, merged, length, pendingLength);
+            spare = pending;
+            pending = merged;
+            pendingLength += length;
+            uncommitted += batchUncommitted;
+        }
+    }
+
+    /*helper method to make this the game's journal*/
+    private void attach(final MancalaGame toJournal) {
+        game = toJournal;
+        toJournal.setJournal(this);
+    }
+
+    /*helper method to buffer a snapshot record, holding this journal's lock*/
+    private void putSnapshot(final byte[] encoded) {
+        final CRC32C crc = new CRC32C();
+        crc.update(encoded);
+        final int check = (int) crc.getValue();
+        put((byte) SNAPSHOT);
+        put((byte) (encoded.length >>> 8));
+        put((byte) encoded.length);
+        for (byte b : encoded) {
+            put(b);
+        }
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            put((byte) (check >>> shift));
+        }
+        appended++;
+        movesSinceSnapshot = 0;
+    }
+
+    /*helper method to buffer one byte, holding this journal's lock*/
+    private void put(final byte b) {
+        if (pendingLength == pending.length) {
+            pending = Arrays.copyOf(pending, pending.length * 2);
+        }
+        pending[pendingLength++] = b;
+    }
+
+    /**
+     * The game rebuilt from a journal's bytes.
+     */
+    private static final class Replay {
+
+        /**
+         * The rebuilt game.
+         */
+        private MancalaGame game;
+        /**
+         * The offset after the last whole record.
+         */
+        private int validEnd;
+        /**
+         * The number of moves replayed after the last snapshot.
+         */
+        private int movesReplayed;
+
+        /*finds the last whole snapshot, then replays the moves after it*/
+        private Replay(final byte[] data) throws IOException {
+            final ByteBuffer in = ByteBuffer.wrap(data);
+            if (data.length < HEADER_BYTES || in.getInt() != MAGIC) {
+                throw new IOException("Error - the file is not a move journal");
+            }
+            final int version = in.get() & 0xFF;
+            if (version != VERSION) {
+                throw new IOException("Error - the journal has unknown version " + version);
+            }
+            // the first pass only steps over records, checking the snapshots
+            int lastSnapshot = -1;
+            int position = HEADER_BYTES;
+            while (position < data.length) {
+                final int end = recordEnd(data, position);
+                if (end < 0) {
+                    break;
+                }
+                if ((data[position] & MOVE_FLAG) == 0) {
+                    lastSnapshot = position;
+                }
+                position = end;
+            }
+            if (lastSnapshot < 0) {
+                throw new IOException("Error - the journal has no snapshot");
+            }
+            final int length = (data[lastSnapshot + 1] & 0xFF) << 8 | data[lastSnapshot + 2] & 0xFF;
+            game = GameCodec.decode(Arrays.copyOfRange(data, lastSnapshot + 3, lastSnapshot + 3 + length));
+            validEnd = lastSnapshot + length + SNAPSHOT_OVERHEAD;
+            // then the moves after the last snapshot are replayed through the rules
+            while (validEnd < position && (data[validEnd] & MOVE_FLAG) != 0) {
+                try {
+                    game.move(data[validEnd] & ~MOVE_FLAG & 0xFF);
+                } catch (InvalidMoveException e) {
+                    break;
+                }
+                validEnd++;
+                movesReplayed++;
+            }
+        }
+
+        /*helper method to find the end of a whole record, or -1 for a torn or unknown one*/
+        private static int recordEnd(final byte[] data, final int position) {
+            final int type = data[position] & 0xFF;
+            if ((type & MOVE_FLAG) != 0) {
+                final int pit = type & ~MOVE_FLAG;
+                return pit >= 1 && pit <= 12 ? position + 1 : -1;
+            }
+            if (type != SNAPSHOT || position + 3 > data.length) {
+                return -1;
+            }
+            final int length = (data[position + 1] & 0xFF) << 8 | data[position + 2] & 0xFF;
+            final int end = position + length + SNAPSHOT_OVERHEAD;
+            if (end > data.length) {
+                return -1;
+            }
+            final CRC32C crc = new CRC32C();
+            crc.update(data, position + 3, length);
+            final int stored = ByteBuffer.wrap(data, end - 4, 4).getInt();
+            return stored == (int) crc.getValue() ? end : -1;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package mancala;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A class used to hold the best moves of the positions near the start of a game,
+ * worked out ahead of time, so that a game can answer them without searching.
+ * A book belongs to one rule set and one number of start stones.
+ *
+ * Moves are kept in an open-addressed hash table of primitive arrays keyed by
+ * the position hash, at most half full, so a lookup is a few array reads.
+ * The file holds a header (magic number, version, rule set, start stones and
+ * entry count) followed by the key, pit and score of every entry.
+ */
+public class OpeningBook {
+
+    /**
+     * The first int of every opening book file.
+     */
+    private static final int MAGIC = 0x4F424B31;
+    /**
+     * The version of the file layout.
+     */
+    private static final int VERSION = 1;
+    /**
+     * The ending of the name of every opening book file.
+     */
+    public static final String FILE_EXTENSION = ".book";
+
+    /**
+     * The name of the rule set the book was built for.
+     */
+    private final String rulesName;
+    /**
+     * The number of stones in each pit at the start of the games in the book.
+     */
+    private final int startStones;
+    /**
+     * The position hash of every entry.
+     */
+    private final long[] keys;
+    /**
+     * The best pit of every entry, or 0 for an empty slot.
+     */
+    private final byte[] pits;
+    /**
+     * The score of the best pit of every entry.
+     */
+    private final short[] scores;
+    /**
+     * The number of entries in the book.
+     */
+    private int size;
+
+    /**
+     * Creates an empty book.
+     *
+     * @param rules     The name of the rule set, as given by rulesNameOf.
+     * @param stones    The number of stones in each pit at the start.
+     * @param capacity  The most entries the book will hold.
+     */
+    public OpeningBook(final String rules, final int stones, final int capacity) {
+        rulesName = rules;
+        startStones = stones;
+        final int slots = Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) << 1;
+        keys = new long[slots];
+        pits = new byte[slots];
+        scores = new short[slots];
+    }
+
+    /**
+     * Gets the name a book uses for a rule set.
+     *
+     * @param rules The rule set.
+     * @return  The name of its class.
+     */
+    public static String rulesNameOf(final GameRules rules) {
+        return rules.getClass().getSimpleName();
+    }
+
+    /**
+     * Gets the name of the file a book is kept in inside a folder of books.
+     *
+     * @param rules     The rule set the book is for.
+     * @param stones    The number of stones in each pit at the start.
+     * @return  The file name, such as KalahRules-4.book.
+     */
+    public static String fileNameOf(final GameRules rules, final int stones) {
+        return rulesNameOf(rules) + "-" + stones + FILE_EXTENSION;
+    }
+
+    /**
+     * Checks if the book was built for a rule set.
+     *
+     * @param rules The rule set to check.
+     * @return  True if the book holds moves for the rule set, and false otherwise.
+     */
+    public boolean isFor(final GameRules rules) {
+        return rulesName.equals(rulesNameOf(rules));
+    }
+
+    /**
+     * Adds the best move of a position, replacing any move it already has.
+     *
+     * @param key   The position hash.
+     * @param pit   The best pit (1 to 12).
+     * @param score The score of the best pit for the player to move.
+     */
+    public void put(final long key, final int pit, final int score) {
+        if (pit < 1 || pit > 12) {
+            throw new IllegalArgumentException("Book Move Must Be A Pit");
+        }
+        int slot = slotOf(key);
+        if (pits[slot] == 0) {
+            if (size * 2 >= keys.length) {
+                throw new RuntimeException("Opening Book Is Full");
+            }
+            size++;
+        }
+        keys[slot] = key;
+        pits[slot] = (byte) pit;
+        scores[slot] = (short) score;
+    }
+
+    /**
+     * Gets the best move of a position.
+     *
+     * @param key   The position hash.
+     * @return  The best pit, or -1 if the position is not in the book.
+     */
+    public int getMove(final long key) {
+        final int slot = slotOf(key);
+        return pits[slot] == 0 ? -1 : pits[slot];
+    }
+
+    /**
+     * Gets the score of the best move of a position.
+     *
+     * @param key   The position hash.
+     * @return  The score for the player to move, or 0 if the position is not in the book.
+     */
+    public int getScore(final long key) {
+        return scores[slotOf(key)];
+    }
+
+    /**
+     * Gets the number of positions in the book.
+     *
+     * @return  The number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the name of the rule set the book was built for.
+     *
+     * @return  The rule set name.
+     */
+    public String getRulesName() {
+        return rulesName;
+    }
+
+    /**
+     * Gets the number of stones in each pit at the start of the games in the book.
+     *
+     * @return  The start stones.
+     */
+    public int getStartStones() {
+        return startStones;
+    }
+
+    /**
+     * Saves the book to a file.
+     *
+     * @param filename  The name of the file to write to.
+     * @throws IOException  If the book cannot be saved.
+     */
+    public void save(final String filename) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(filename)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(rulesName);
+            out.writeInt(startStones);
+            out.writeInt(size);
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (pits[slot] != 0) {
+                    out.writeLong(keys[slot]);
+                    out.writeByte(pits[slot]);
+                    out.writeShort(scores[slot]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads a book from a file.
+     *
+     * @param filename  The file to read the book from.
+     * @return  The book.
+     * @throws IOException  If the file cannot be read or is not an opening book.
+     */
+    public static OpeningBook load(final String filename) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(filename)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Error - the file is not an opening book");
+            }
+            final String rules = in.readUTF();
+            final int stones = in.readInt();
+            final int count = in.readInt();
+            final OpeningBook book = new OpeningBook(rules, stones, count);
+            for (int i = 0; i < count; i++) {
+                book.put(in.readLong(), in.readByte(), in.readShort());
+            }
+            return book;
+        }
+    }
+
+    /**
+     * Loads every book in a folder, so that they can be given to games at startup.
+     *
+     * @param folder    The folder holding the books.
+     * @return  The books, or an empty list if there is no such folder.
+     * @throws IOException  If a book file cannot be read or is not an opening book.
+     */
+    public static List<OpeningBook> loadFolder(final String folder) throws IOException {
+        final List<OpeningBook> books = new ArrayList<>();
+        final Path path = Path.of(folder);
+        if (!Files.isDirectory(path)) {
+            return books;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(path, "*" + FILE_EXTENSION)) {
+            for (final Path file : files) {
+                books.add(load(file.toString()));
+            }
+        }
+        return books;
+    }
+
+    /*finds the slot holding a key, or the empty slot where it belongs*/
+    private int slotOf(final long key) {
+        final int mask = keys.length - 1;
+        int slot = (int) (key ^ key >>> 32) & mask;
+        while (pits[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+}
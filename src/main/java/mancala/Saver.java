@@ -1,49 +1,208 @@
 package mancala;
 
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
 
 /**
- * A class used to save and load objects from files.
+ * A class used to save and load objects from files. Games are saved in the
+ * compact GameCodec format and everything else with Java serialization.
+ *
+ * Every file starts with a header holding the format, the length and the
+ * CRC32C of what follows, so a damaged file is found by verify without
+ * deserializing it, and loadObject checks it before decoding anything. A file
+ * is written under a temporary name, forced to disk and then renamed over the
+ * old file, so a crash leaves either the old file or the new one, never half
+ * of one. Files saved before the header existed, as a bare GameCodec game or a
+ * serialized object, are still loaded.
  */
 public class Saver implements Serializable {
     private static final long serialVersionUID = -2804233256934305899L;
 
+    /**
+     * The first four bytes of a saved file, "MNSV".
+     */
+    public static final int MAGIC = 0x4D4E5356;
+    /**
+     * The version of the header.
+     */
+    public static final int VERSION = 1;
+
+    /*the number of bytes in the header: magic, version, format, length and checksum*/
+    private static final int HEADER_BYTES = 14;
+    /*the format byte of a GameCodec game*/
+    private static final int GAME_FORMAT = 1;
+    /*the format byte of a serialized object*/
+    private static final int SERIALIZED_FORMAT = 2;
+    /*the first two bytes of a serialized object*/
+    private static final int SERIALIZED_MAGIC = 0xACED;
+
     /**
      * Saves an object to a file.
-     * 
+     *
      * @param toSave    The object to save.
      * @param filename  The name of the file to write to.
      * @throws IOException  If the object cannot be saved.
      */
     public void saveObject(final Serializable toSave, final String filename) throws IOException {
-        // make an output stream for the file
-        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(filename))) {
-            // write the object
-            out.writeObject(toSave);
-        }
+        writeFile(encode(toSave), filename);
     }
 
     /**
      * Loads an object from a file.
-     * 
+     *
      * @param filename  The file to read the object from.
      * @return  The object that we read.
-     * @throws IOException  If the object cannot be read.
+     * @throws IOException  If the object cannot be read or the file is damaged.
      */
     public Serializable loadObject(final String filename) throws IOException {
+        final byte[] data = Files.readAllBytes(Path.of(filename));
+        if (hasHeader(data)) {
+            if (!checksumMatches(data)) {
+                throw new IOException("Error - " + filename + " is damaged and could not be loaded");
+            }
+            final byte[] payload = Arrays.copyOfRange(data, HEADER_BYTES, data.length);
+            return data[5] == GAME_FORMAT ? GameCodec.decode(payload) : readSerialized(payload);
+        }
+        // files saved before the header are a bare game or a bare serialized object
+        if (GameCodec.isEncodedGame(data)) {
+            return GameCodec.decode(data);
+        }
+        return readSerialized(data);
+    }
+
+    /**
+     * Checks that a file is whole without decoding it: its header and checksum
+     * are checked when it has them, and older files are only checked to start
+     * like a saved game or serialized object.
+     *
+     * @param filename  The file to check.
+     * @return  True if the file looks whole, false if it is damaged or missing.
+     */
+    public boolean verify(final String filename) {
+        final byte[] data;
+        try {
+            data = Files.readAllBytes(Path.of(filename));
+        } catch (IOException e) {
+            return false;
+        }
+        if (hasHeader(data)) {
+            return checksumMatches(data);
+        }
+        return GameCodec.isEncodedGame(data)
+            || data.length > 2 && ((data[0] & 0xFF) << 8 | data[1] & 0xFF) == SERIALIZED_MAGIC;
+    }
+
+    /**
+     * Encodes an object as the whole contents of a saved file, header included.
+     *
+     * @param toSave    The object to encode.
+     * @return  The bytes of the file.
+     * @throws IOException  If the object cannot be serialized.
+     */
+    byte[] encode(final Serializable toSave) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_BYTES + 64);
+        bytes.write(new byte[HEADER_BYTES]);
+        final int format;
+        if (toSave instanceof MancalaGame) {
+            bytes.write(GameCodec.encode((MancalaGame) toSave));
+            format = GAME_FORMAT;
+        } else {
+            // make an output stream for the object
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                // write the object
+                out.writeObject(toSave);
+            }
+            format = SERIALIZED_FORMAT;
+        }
+        final byte[] data = bytes.toByteArray();
+        final CRC32C crc = new CRC32C();
+        crc.update(data, HEADER_BYTES, data.length - HEADER_BYTES);
+        ByteBuffer.wrap(data).putInt(MAGIC).put((byte) VERSION).put((byte) format)
+            .putInt(data.length - HEADER_BYTES).putInt((int) crc.getValue());
+        return data;
+    }
+
+    /**
+     * Replaces a file with new contents in one step: the contents are written to
+     * a temporary file beside it, forced to disk and renamed over it.
+     *
+     * @param data      The new contents.
+     * @param filename  The file to replace.
+     * @throws IOException  If the file cannot be written.
+     */
+    void writeFile(final byte[] data, final String filename) throws IOException {
+        final Path target = Path.of(filename).toAbsolutePath();
+        final Path folder = target.getParent();
+        final Path temp = Files.createTempFile(folder, "." + target.getFileName(), ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                final ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                out.force(true);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        forceFolder(folder);
+    }
+
+    /*helper method to make a rename durable, where the platform allows opening folders*/
+    private static void forceFolder(final Path folder) {
+        try (FileChannel channel = FileChannel.open(folder, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // some platforms cannot open a folder; the rename is still atomic there
+        }
+    }
+
+    /*helper method to check for the header's magic number and version*/
+    private static boolean hasHeader(final byte[] data) {
+        return data.length >= HEADER_BYTES && ByteBuffer.wrap(data).getInt() == MAGIC && data[4] == VERSION;
+    }
+
+    /*helper method to check the header's length and checksum against the payload*/
+    private static boolean checksumMatches(final byte[] data) {
+        final ByteBuffer header = ByteBuffer.wrap(data, 6, 8);
+        final int length = header.getInt();
+        final int stored = header.getInt();
+        if (length != data.length - HEADER_BYTES) {
+            return false;
+        }
+        final CRC32C crc = new CRC32C();
+        crc.update(data, HEADER_BYTES, length);
+        return (int) crc.getValue() == stored && (data[5] == GAME_FORMAT || data[5] == SERIALIZED_FORMAT);
+    }
+
+    /*helper method to read an object written by Java serialization*/
+    private static Serializable readSerialized(final byte[] data) throws IOException {
         Object object;
-        try (ObjectInputStream inStream = new ObjectInputStream(new FileInputStream(filename))) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
             // read in the object
-            object = inStream.readObject();
+            object = in.readObject();
         } catch (ClassNotFoundException e) {
             throw new IOException("Error - the object could not be read because it is not serializable");
         }
         // return the serializable version of the class
         return (Serializable)object;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,87 @@
+package mancala;
+
+/**
+ * Interface representing a board of twelve pits and two stores that the
+ * rule sets can sow stones across.
+ *
+ * Slots are numbered 0 to 13 in the same order as the countables in
+ * MancalaDataStructure: pits 1-6, player one's store, pits 7-12 and
+ * then player two's store.
+ */
+public interface StoneBoard {
+
+    /**
+     * Adds stones to a pit.
+     *
+     * @param pitNum   The number of the pit.
+     * @param numToAdd The number of stones to add.
+     * @return The current number of stones in the pit.
+     */
+    int addStones(int pitNum, int numToAdd);
+
+    /**
+     * Removes stones from a pit.
+     *
+     * @param pitNum The number of the pit.
+     * @return The number of stones removed.
+     */
+    int removeStones(int pitNum);
+
+    /**
+     * Gets the stone count in a given pit.
+     *
+     * @param pitNum The number of the pit.
+     * @return The stone count in the pit.
+     */
+    int getNumStones(int pitNum);
+
+    /**
+     * Adds stones to a player's store.
+     *
+     * @param playerNum The player number (1 or 2).
+     * @param numToAdd  The number of stones to add to the store.
+     * @return The current number of stones in the store.
+     */
+    int addToStore(int playerNum, int numToAdd);
+
+    /**
+     * Gets the stone count in a player's store.
+     *
+     * @param playerNum The player number (1 or 2).
+     * @return The stone count in the player's store.
+     */
+    int getStoreCount(int playerNum);
+
+    /**
+     * Checks if one of the player's side of the board is empty.
+     *
+     * @param playerNum The player whose side must be checked.
+     * @return True if the side of the board is empty, and false otherwise.
+     */
+    boolean isSideEmpty(int playerNum);
+
+    /**
+     * Gets the stone count in a slot of the board.
+     *
+     * @param slot  The slot index (0 to 13).
+     * @return The stone count in the slot.
+     */
+    int getSlotCount(int slot);
+
+    /**
+     * Adds stones to a slot of the board, whether it is a pit or a store.
+     *
+     * @param slot      The slot index (0 to 13).
+     * @param numToAdd  The number of stones to add.
+     * @return The current number of stones in the slot.
+     */
+    int addToSlot(int slot, int numToAdd);
+
+    /**
+     * Gets the Zobrist-style hash of the stone counts on the board, which is
+     * updated in constant time as stones are added and removed.
+     *
+     * @return  The hash of the stone counts.
+     */
+    long getZobristHash();
+}
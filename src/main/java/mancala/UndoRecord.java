@@ -0,0 +1,127 @@
+package mancala;
+
+/**
+ * A class used to remember what a move changed so that GameRules can take it
+ * back exactly: the counts of the slots it changed and the turn state before it.
+ * A record can be reused for many moves to avoid allocating one per move.
+ */
+public final class UndoRecord {
+
+    /**
+     * The count of every slot before the move.
+     */
+    final private int[] counts = new int[CompactBoard.NUM_SLOTS];
+    /**
+     * A bitmask with bit slot set for every slot the move changed.
+     */
+    private int changedSlots;
+    /**
+     * The pit the move was made from.
+     */
+    private int startPit;
+    /**
+     * The player to move before the move.
+     */
+    private int previousPlayer;
+    /**
+     * The last pit a stone landed in before the move.
+     */
+    private int previousLastPitIndex;
+    /**
+     * Whether a steal was pending before the move.
+     */
+    private boolean previousPerformSteal;
+
+    /**
+     * Remembers the board and turn state before a move.
+     *
+     * @param board         The board the move is played on.
+     * @param pit           The pit the move is made from.
+     * @param player        The player to move.
+     * @param lastPitIndex  The last pit a stone landed in.
+     * @param performSteal  Whether a steal is pending.
+     */
+    void save(final StoneBoard board, final int pit, final int player, final int lastPitIndex,
+        final boolean performSteal) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = board.getSlotCount(i);
+        }
+        changedSlots = 0;
+        startPit = pit;
+        previousPlayer = player;
+        previousLastPitIndex = lastPitIndex;
+        previousPerformSteal = performSteal;
+    }
+
+    /**
+     * Marks which slots the move changed, once it has been played.
+     *
+     * @param board The board the move was played on.
+     */
+    void markChanged(final StoneBoard board) {
+        int changed = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (board.getSlotCount(i) != counts[i]) {
+                changed |= 1 << i;
+            }
+        }
+        changedSlots = changed;
+    }
+
+    /**
+     * Puts the changed slots back to their counts from before the move.
+     *
+     * @param board The board the move was played on.
+     */
+    void restore(final StoneBoard board) {
+        for (int changed = changedSlots; changed != 0; changed &= changed - 1) {
+            final int slot = Integer.numberOfTrailingZeros(changed);
+            board.addToSlot(slot, counts[slot] - board.getSlotCount(slot));
+        }
+    }
+
+    /**
+     * Gets the pit the move was made from.
+     *
+     * @return  The starting pit of the move.
+     */
+    public int getStartPit() {
+        return startPit;
+    }
+
+    /**
+     * Gets the slots the move changed.
+     *
+     * @return  A bitmask with bit slot set for every slot index the move changed.
+     */
+    public int getChangedSlots() {
+        return changedSlots;
+    }
+
+    /**
+     * Gets the player who made the move.
+     *
+     * @return  The player to move before the move (1 or 2).
+     */
+    public int getPreviousPlayer() {
+        return previousPlayer;
+    }
+
+    /**
+     * Gets the last pit a stone landed in before the move.
+     *
+     * @return  The last pit index before the move.
+     */
+    int getPreviousLastPitIndex() {
+        return previousLastPitIndex;
+    }
+
+    /**
+     * Gets whether a steal was pending before the move.
+     *
+     * @return  True if a steal was pending, and false otherwise.
+     */
+    boolean getPreviousPerformSteal() {
+        return previousPerformSteal;
+    }
+}
@@ -0,0 +1,77 @@
+package mancala;
+
+/**
+ * Holds the random keys used to hash board positions. A board's hash is the
+ * sum of each slot's stone count times that slot's key, so adding or removing
+ * stones updates it in constant time, and the player to move is mixed in with
+ * its own key. The keys come from a fixed seed so hashes stay the same between runs.
+ */
+final class ZobristKeys {
+
+    /**
+     * The key of every slot on the board.
+     */
+    private static final long[] SLOT_KEYS = new long[CompactBoard.NUM_SLOTS];
+
+    /**
+     * The key mixed into a position when it is player two's turn.
+     */
+    private static final long PLAYER_TWO_KEY;
+
+    static {
+        long seed = 0x6D616E63616C6121L;
+        for (int i = 0; i < SLOT_KEYS.length; i++) {
+            seed += 0x9E3779B97F4A7C15L;
+            // odd keys keep every bit of the count in play
+            SLOT_KEYS[i] = mix(seed) | 1L;
+        }
+        seed += 0x9E3779B97F4A7C15L;
+        PLAYER_TWO_KEY = mix(seed);
+    }
+
+    private ZobristKeys() {
+        // only static keys
+    }
+
+    /**
+     * Gets the key of a slot.
+     *
+     * @param slot  The slot index (0 to 13).
+     * @return  The key of the slot.
+     */
+    static long slotKey(final int slot) {
+        return SLOT_KEYS[slot];
+    }
+
+    /**
+     * Gets the key mixed into a position for the player to move.
+     *
+     * @param playerNum The player to move (1 or 2).
+     * @return  The key for the player.
+     */
+    static long playerKey(final int playerNum) {
+        return playerNum == PlayerPositions.PLAYER_TWO_NUM ? PLAYER_TWO_KEY : 0L;
+    }
+
+    /**
+     * Computes the hash of a board from scratch.
+     *
+     * @param board The board to hash.
+     * @return  The hash of the stone counts on the board.
+     */
+    static long hashOf(final StoneBoard board) {
+        long hash = 0;
+        for (int i = 0; i < SLOT_KEYS.length; i++) {
+            hash += board.getSlotCount(i) * SLOT_KEYS[i];
+        }
+        return hash;
+    }
+
+    /*helper method to scramble the bits of a seed (SplitMix64)*/
+    private static long mix(final long seed) {
+        long z = seed;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,534 @@
+package search;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import mancala.CompactBoard;
+import mancala.GameRules;
+import mancala.KalahRules;
+
+/**
+ * A computer opponent that picks moves with an iterative-deepening alpha-beta
+ * (negamax) search. Moves are played with the rule set's playMove on compact
+ * copies of the board, so the game being analysed is never changed. Scores are
+ * kept in a transposition table, which also orders each position's best move first.
+ * In Kalah, positions held by an endgame database are scored exactly without searching.
+ * KalahSolver runs the same search with no depth limit to solve whole games.
+ *
+ * A search keeps its working boards between calls, so one instance should
+ * only be used by one thread at a time. Several instances may share one table,
+ * as the workers of a ParallelSearch do.
+ */
+public class AlphaBetaSearch {
+
+    /**
+     * The deepest iteration any search will start.
+     */
+    public static final int MAX_DEPTH = 64;
+    /**
+     * A score larger than any difference in stones.
+     */
+    static final int INFINITY = 1_000_000;
+    /**
+     * How many positions are visited between checks of the clock.
+     */
+    private static final int CLOCK_CHECK_INTERVAL = 1024;
+    /**
+     * The size in megabytes of the transposition table made by the default constructor.
+     */
+    public static final int DEFAULT_TABLE_MEGABYTES = 16;
+
+    /**
+     * The depth passed down by a search to the end of the game, never reached by counting down.
+     */
+    private static final int UNLIMITED_DEPTH = Integer.MAX_VALUE;
+
+    /**
+     * The board of every ply of the search, reused between moves and grown when solving.
+     */
+    private CompactBoard[] boards = new CompactBoard[MAX_DEPTH + 1];
+    /**
+     * The scores of positions already searched, kept between moves.
+     */
+    private final ScoreTable table;
+    /**
+     * The kind of rule set whose scores are in the table.
+     */
+    private Class<?> tableRules;
+    /**
+     * The endgame database probed in Kalah, or null if there is none.
+     */
+    private EndgameDatabase endgame;
+    /**
+     * Whether the current search probes the endgame database.
+     */
+    private boolean probeEndgame;
+    /**
+     * The rule set the current search plays moves with.
+     */
+    private GameRules rules;
+    /**
+     * The number of positions visited by the current search.
+     */
+    private long nodes;
+    /**
+     * The number of positions the current search may visit.
+     */
+    private long nodeLimit;
+    /**
+     * The node count at which the clock and stop flag are next read.
+     */
+    private long nextClockCheck;
+    /**
+     * The nodes visited by every search sharing the node limit, or null if this search has it alone.
+     */
+    private AtomicLong sharedNodes;
+    /**
+     * The nodes of this search already added to the shared count.
+     */
+    private long publishedNodes;
+    /**
+     * The time, from System.nanoTime, at which the current search must stop.
+     */
+    private long deadline;
+    /**
+     * Whether the current iteration ran out of nodes or time.
+     */
+    private boolean aborted;
+    /**
+     * Whether another thread has asked the current search to stop.
+     */
+    private volatile boolean stopRequested;
+    /**
+     * The best pit found by the current iteration at the root.
+     */
+    private int rootBestPit;
+    /**
+     * Whether the current search runs to the end of the game, storing only exact results.
+     */
+    private boolean solving;
+
+    /**
+     * Creates a search with its working boards and a transposition table of the default size.
+     */
+    public AlphaBetaSearch() {
+        this(new TranspositionTable(DEFAULT_TABLE_MEGABYTES));
+    }
+
+    /**
+     * Creates a search with its working boards, storing scores in the given table.
+     *
+     * @param transpositions    The transposition table to use.
+     */
+    public AlphaBetaSearch(final TranspositionTable transpositions) {
+        this((ScoreTable) transpositions);
+    }
+
+    /**
+     * Creates a search with its working boards, storing scores in any kind of table.
+     *
+     * @param transpositions    The table to use.
+     */
+    AlphaBetaSearch(final ScoreTable transpositions) {
+        table = transpositions;
+        for (int i = 0; i < boards.length; i++) {
+            boards[i] = new CompactBoard();
+        }
+    }
+
+    /**
+     * Searches for the best move for the player to move in a game.
+     *
+     * @param game      The game rules holding the position; they are not changed.
+     * @param limits    The limits of the search.
+     * @return  The best move found and its score.
+     */
+    public SearchResult search(final GameRules game, final SearchLimits limits) {
+        return search(game, game.toCompactBoard(), game.getPlayer(), limits);
+    }
+
+    /**
+     * Searches for the best move for a player on a board.
+     *
+     * @param ruleSet   The rule set used to play moves; its own board is not changed.
+     * @param position  The board to search from; it is not changed.
+     * @param playerNum The player to move (1 or 2).
+     * @param limits    The limits of the search.
+     * @return  The best move found and its score.
+     */
+    public SearchResult search(final GameRules ruleSet, final CompactBoard position, final int playerNum,
+        final SearchLimits limits) {
+        prepareTable(ruleSet);
+        clearStop();
+        return deepen(ruleSet, position, playerNum, limits, 1, deadlineOf(limits));
+    }
+
+    /**
+     * Readies the table for a new search with a rule set, emptying it if it holds
+     * scores from another kind of rule set.
+     *
+     * @param ruleSet   The rule set about to be searched.
+     */
+    void prepareTable(final GameRules ruleSet) {
+        if (!(table instanceof TranspositionTable)) {
+            // a solver's table keeps its exact results between searches
+            return;
+        }
+        final TranspositionTable ageing = (TranspositionTable) table;
+        // the same position scores differently under other rules
+        if (ruleSet.getClass() != tableRules) {
+            ageing.clear();
+            tableRules = ruleSet.getClass();
+        }
+        ageing.newSearch();
+    }
+
+    /**
+     * Searches a position to the end of the game within a window. Every score
+     * stored is exact to the end of the game, and the depth stored with it is the
+     * log of the positions searched below it, so the costliest results are kept.
+     *
+     * @param ruleSet   The rule set used to play moves.
+     * @param position  The board to search from; it is not changed.
+     * @param playerNum The player to move (1 or 2).
+     * @param alpha     The score the player is already sure of.
+     * @param beta      The score the opponent will not allow the player to exceed.
+     * @return  The score of the position for the player to move, as a bound if outside the window.
+     */
+    int solveWindow(final GameRules ruleSet, final CompactBoard position, final int playerNum,
+        final int alpha, final int beta) {
+        startSolving(ruleSet, position);
+        final int score = negamax(0, playerNum, UNLIMITED_DEPTH, alpha, beta);
+        return finishSolving(score);
+    }
+
+    /**
+     * Plays one move from a position and searches the result to the end of the
+     * game within a window, as solveWindow does.
+     *
+     * @param ruleSet   The rule set used to play moves.
+     * @param position  The board to search from; it is not changed.
+     * @param playerNum The player making the move (1 or 2).
+     * @param pit       The pit to move from.
+     * @param alpha     The score the player is already sure of.
+     * @param beta      The score the opponent will not allow the player to exceed.
+     * @return  The score of the move for the player making it, as a bound if outside the window.
+     */
+    int solveMove(final GameRules ruleSet, final CompactBoard position, final int playerNum, final int pit,
+        final int alpha, final int beta) {
+        startSolving(ruleSet, position);
+        final int score = searchMove(0, playerNum, pit, UNLIMITED_DEPTH, alpha, beta);
+        return finishSolving(score);
+    }
+
+    /**
+     * Gets the number of positions visited by the last search.
+     *
+     * @return  The node count.
+     */
+    long getNodes() {
+        return nodes;
+    }
+
+    /*helper method to set up a search to the end of the game with no budget*/
+    private void startSolving(final GameRules ruleSet, final CompactBoard position) {
+        rules = ruleSet;
+        probeEndgame = endgame != null && ruleSet instanceof KalahRules;
+        solving = true;
+        aborted = false;
+        clearStop();
+        nodes = 0;
+        nextClockCheck = CLOCK_CHECK_INTERVAL;
+        publishedNodes = 0;
+        nodeLimit = Long.MAX_VALUE;
+        deadline = Long.MAX_VALUE;
+        boards[0].copyFrom(position);
+    }
+
+    /*helper method to end a search to the end of the game*/
+    private int finishSolving(final int score) {
+        solving = false;
+        rules = null;
+        return score;
+    }
+
+    /**
+     * Runs the iterations of a search without touching the age of the table, so
+     * that several searches sharing the table can run at once.
+     *
+     * @param ruleSet       The rule set used to play moves; it is not changed.
+     * @param position      The board to search from; it is not changed.
+     * @param playerNum     The player to move (1 or 2).
+     * @param limits        The limits of the search.
+     * @param firstDepth    The depth of the first iteration.
+     * @param stopTime      The time, from System.nanoTime, at which to stop.
+     * @return  The best move found and its score.
+     */
+    SearchResult deepen(final GameRules ruleSet, final CompactBoard position, final int playerNum,
+        final SearchLimits limits, final int firstDepth, final long stopTime) {
+        rules = ruleSet;
+        probeEndgame = endgame != null && ruleSet instanceof KalahRules;
+        nodes = 0;
+        nextClockCheck = CLOCK_CHECK_INTERVAL;
+        publishedNodes = 0;
+        nodeLimit = limits.getMaxNodes();
+        deadline = stopTime;
+        boards[0].copyFrom(position);
+
+        final int moves = GameRules.legalMoves(position, playerNum);
+        if (moves == 0 || isGameOver(position)) {
+            return new SearchResult(-1, finalScore(position, playerNum), 0, 0);
+        }
+
+        // fall back on the first legal move if not even one iteration finishes
+        SearchResult result = new SearchResult(Integer.numberOfTrailingZeros(moves),
+            evaluate(position, playerNum), 0, 0);
+        final int maxDepth = Math.min(limits.getMaxDepth(), MAX_DEPTH);
+        for (int depth = Math.min(firstDepth, maxDepth); depth <= maxDepth; depth++) {
+            aborted = false;
+            final int score = searchRoot(playerNum, depth, result.getBestPit());
+            if (aborted) {
+                break;
+            }
+            result = new SearchResult(rootBestPit, score, depth, nodes);
+        }
+        rules = null;
+        return new SearchResult(result.getBestPit(), result.getScore(), result.getDepth(), nodes);
+    }
+
+    /*searches every move from the root, starting with the best move of the last iteration*/
+    private int searchRoot(final int playerNum, final int depth, final int firstPit) {
+        int alpha = -INFINITY;
+        rootBestPit = firstPit;
+        final int moves = GameRules.legalMoves(boards[0], playerNum) & ~(1 << firstPit);
+
+        alpha = Math.max(alpha, searchMove(0, playerNum, firstPit, depth, alpha, INFINITY));
+        for (int rest = moves; rest != 0 && !aborted; rest &= rest - 1) {
+            final int pit = Integer.numberOfTrailingZeros(rest);
+            final int score = searchMove(0, playerNum, pit, depth, alpha, INFINITY);
+            if (score > alpha && !aborted) {
+                alpha = score;
+                rootBestPit = pit;
+            }
+        }
+        return alpha;
+    }
+
+    /*plays one move from a ply and scores it for the player who made it*/
+    private int searchMove(final int ply, final int playerNum, final int pit, final int depth,
+        final int alpha, final int beta) {
+        final CompactBoard child = boardAt(ply + 1);
+        child.copyFrom(boards[ply]);
+        final int nextPlayer = rules.playMove(child, pit, playerNum);
+        // an extra turn keeps the same player, so the score is not negated
+        if (nextPlayer == playerNum) {
+            return negamax(ply + 1, nextPlayer, depth - 1, alpha, beta);
+        }
+        return -negamax(ply + 1, nextPlayer, depth - 1, -beta, -alpha);
+    }
+
+    /**
+     * Scores the board at a ply for the player to move.
+     *
+     * @param ply       The ply of the board being searched.
+     * @param playerNum The player to move.
+     * @param depth     The number of plies left to search.
+     * @param alpha     The score the player is already sure of.
+     * @param beta      The score the opponent will not allow the player to exceed.
+     * @return  The score of the board for the player to move.
+     */
+    private int negamax(final int ply, final int playerNum, final int depth, final int alpha, final int beta) {
+        final CompactBoard board = boards[ply];
+        nodes++;
+        if (outOfBudget()) {
+            aborted = true;
+            return 0;
+        }
+        if (isGameOver(board)) {
+            return finalScore(board, playerNum);
+        }
+        if (probeEndgame && endgame.contains(board)) {
+            return endgame.probe(board, playerNum);
+        }
+        if (depth <= 0 || ply >= MAX_DEPTH && !solving) {
+            return evaluate(board, playerNum);
+        }
+
+        // a stored score may settle the position or narrow the window
+        final long key = GameRules.positionHash(board, playerNum);
+        final long entry = table.probe(key);
+        int low = alpha;
+        int high = beta;
+        int pit = 0;
+        if (entry != TranspositionTable.MISS) {
+            pit = TranspositionTable.moveOf(entry);
+            // a solved entry is exact to the end of the game, whatever its depth
+            if (solving || TranspositionTable.depthOf(entry) >= depth) {
+                final int stored = TranspositionTable.scoreOf(entry);
+                final int bound = TranspositionTable.boundOf(entry);
+                if (bound == TranspositionTable.EXACT) {
+                    return stored;
+                } else if (bound == TranspositionTable.LOWER_BOUND) {
+                    low = Math.max(low, stored);
+                } else {
+                    high = Math.min(high, stored);
+                }
+                if (low >= high) {
+                    return stored;
+                }
+            }
+        }
+
+        // the stored move first, then the pits nearest the store, which most often earn extra turns
+        final int moves = GameRules.legalMoves(board, playerNum);
+        if (pit == 0 || (moves & 1 << pit) == 0) {
+            pit = 31 - Integer.numberOfLeadingZeros(moves);
+        }
+        int rest = moves & ~(1 << pit);
+        final long start = nodes;
+        int best = -INFINITY;
+        int bestPit = pit;
+        int bound = low;
+        while (true) {
+            final int score = searchMove(ply, playerNum, pit, depth, bound, high);
+            if (aborted) {
+                return 0;
+            }
+            if (score > best) {
+                best = score;
+                bestPit = pit;
+                if (score > bound) {
+                    bound = score;
+                    if (bound >= high) {
+                        break;
+                    }
+                }
+            }
+            if (rest == 0) {
+                break;
+            }
+            pit = 31 - Integer.numberOfLeadingZeros(rest);
+            rest &= ~(1 << pit);
+        }
+
+        final int type = best <= low ? TranspositionTable.UPPER_BOUND
+            : best >= high ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+        table.store(key, solving ? 63 - Long.numberOfLeadingZeros(nodes - start) : depth, type, best, bestPit);
+        return best;
+    }
+
+    /*helper method to get the board of a ply, doubling the boards when a solve goes deeper*/
+    private CompactBoard boardAt(final int ply) {
+        if (ply >= boards.length) {
+            final int old = boards.length;
+            boards = Arrays.copyOf(boards, old * 2);
+            for (int i = old; i < boards.length; i++) {
+                boards[i] = new CompactBoard();
+            }
+        }
+        return boards[ply];
+    }
+
+    /**
+     * Sets the endgame database probed when searching Kalah.
+     *
+     * @param database  The database, or null to search every position.
+     */
+    public void setEndgameDatabase(final EndgameDatabase database) {
+        endgame = database;
+    }
+
+    /**
+     * Asks a search running on another thread to stop; it returns the result of
+     * its last finished iteration.
+     */
+    void stop() {
+        stopRequested = true;
+    }
+
+    /**
+     * Clears a request to stop, before the search is started again.
+     */
+    void clearStop() {
+        stopRequested = false;
+    }
+
+    /**
+     * Makes the node limit cover every search adding to a shared count, instead
+     * of this search alone. The shared count is only updated when the clock is
+     * read, so together the searches may pass the limit by that interval each.
+     *
+     * @param counter   The count shared by the searches, or null to count alone.
+     */
+    void shareNodeCount(final AtomicLong counter) {
+        sharedNodes = counter;
+    }
+
+    /**
+     * Gets the time at which a search with the given limits must stop.
+     *
+     * @param limits    The limits of the search.
+     * @return  The deadline, from System.nanoTime.
+     */
+    static long deadlineOf(final SearchLimits limits) {
+        return limits.getMaxMillis() >= Long.MAX_VALUE / 1_000_000L ? Long.MAX_VALUE
+            : System.nanoTime() + limits.getMaxMillis() * 1_000_000L;
+    }
+
+    /*checks the node and time budgets, only reading the clock and stop flag every so often*/
+    private boolean outOfBudget() {
+        if (nodes >= nodeLimit) {
+            return true;
+        }
+        if (nodes < nextClockCheck) {
+            return false;
+        }
+        nextClockCheck = nodes + CLOCK_CHECK_INTERVAL;
+        if (sharedNodes != null) {
+            final long total = sharedNodes.addAndGet(nodes - publishedNodes);
+            publishedNodes = nodes;
+            if (total >= nodeLimit) {
+                return true;
+            }
+        }
+        return stopRequested || System.nanoTime() >= deadline;
+    }
+
+    /**
+     * Checks if the game is over on a board because one side has no stones.
+     *
+     * @param board The board to check.
+     * @return  True if either side is empty, and false otherwise.
+     */
+    static boolean isGameOver(final CompactBoard board) {
+        return board.isSideEmpty(1) || board.isSideEmpty(2);
+    }
+
+    /**
+     * Scores a board for a player as the difference between the two stores.
+     *
+     * @param board     The board to score.
+     * @param playerNum The player to score it for.
+     * @return  The player's store minus their opponent's store.
+     */
+    static int evaluate(final CompactBoard board, final int playerNum) {
+        final int difference = board.getStoreCount(1) - board.getStoreCount(2);
+        return playerNum == 1 ? difference : -difference;
+    }
+
+    /**
+     * Scores a finished game for a player, once every stone left in a pit has
+     * gone to the store on the same side.
+     *
+     * @param board     The board to score.
+     * @param playerNum The player to score it for.
+     * @return  The player's final stones minus their opponent's.
+     */
+    static int finalScore(final CompactBoard board, final int playerNum) {
+        int difference = 0;
+        for (int slot = 0; slot < CompactBoard.NUM_SLOTS; slot++) {
+            difference += slot <= 6 ? board.getSlotCount(slot) : -board.getSlotCount(slot);
+        }
+        return playerNum == 1 ? difference : -difference;
+    }
+}
@@ -0,0 +1,126 @@
+package search;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import mancala.CompactBoard;
+import mancala.GameRules;
+import mancala.KalahRules;
+import mancala.StoneBoard;
+
+/**
+ * A read-only view of an endgame database file written by EndgameGenerator.
+ * The file is memory-mapped, so opening it reads nothing up front and each
+ * probe is one index calculation and one byte read, shared by every thread
+ * that probes it. The results only hold for Kalah.
+ */
+public final class EndgameDatabase {
+
+    /**
+     * The mapped contents of the file.
+     */
+    private final MappedByteBuffer buffer;
+    /**
+     * The most stones in the pits of a position in the database.
+     */
+    private final int maxStones;
+    /**
+     * The rule set used to try each move when picking the best one.
+     */
+    private final KalahRules rules = new KalahRules();
+
+    /*created only by open*/
+    private EndgameDatabase(final MappedByteBuffer contents, final int stones) {
+        buffer = contents;
+        maxStones = stones;
+    }
+
+    /**
+     * Opens an endgame database file.
+     *
+     * @param filename  The name of the file to open.
+     * @return  The database.
+     * @throws IOException  If the file cannot be read or is not an endgame database.
+     */
+    public static EndgameDatabase open(final String filename) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(filename, "r");
+            FileChannel channel = file.getChannel()) {
+            final MappedByteBuffer contents = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (contents.capacity() < EndgameGenerator.HEADER_BYTES
+                || contents.getInt(0) != EndgameGenerator.MAGIC
+                || contents.getInt(4) != EndgameGenerator.VERSION) {
+                throw new IOException("Error - the file is not an endgame database");
+            }
+            final int stones = contents.getInt(8);
+            if (stones < 0 || stones > PositionIndex.MAX_STONES
+                || contents.capacity() != EndgameGenerator.HEADER_BYTES + PositionIndex.offset(stones + 1)) {
+                throw new IOException("Error - the endgame database is damaged");
+            }
+            return new EndgameDatabase(contents, stones);
+        }
+    }
+
+    /**
+     * Gets the most stones in the pits of a position in the database.
+     *
+     * @return  The largest number of stones solved.
+     */
+    public int getMaxStones() {
+        return maxStones;
+    }
+
+    /**
+     * Checks if the database holds a position.
+     *
+     * @param board The board to check.
+     * @return  True if few enough stones are left in the pits, and false otherwise.
+     */
+    public boolean contains(final StoneBoard board) {
+        return PositionIndex.stonesInPits(board) <= maxStones;
+    }
+
+    /**
+     * Gets the perfect result of a position: the difference between the player's
+     * stones and their opponent's at the end of the game, with both playing their best.
+     *
+     * @param board     The board to look up.
+     * @param playerNum The player to move (1 or 2), and the player the result is for.
+     * @return  The player's final stones minus their opponent's.
+     */
+    public int probe(final StoneBoard board, final int playerNum) {
+        if (!contains(board)) {
+            throw new RuntimeException("Position Not In Endgame Database");
+        }
+        final int stores = board.getStoreCount(playerNum) - board.getStoreCount(3 - playerNum);
+        return stores + buffer.get(EndgameGenerator.HEADER_BYTES + (int) PositionIndex.indexOf(board, playerNum));
+    }
+
+    /**
+     * Gets a move that reaches the perfect result of a position.
+     *
+     * @param board     The board to look up.
+     * @param playerNum The player to move (1 or 2).
+     * @return  The best pit, or -1 if the player has no moves.
+     */
+    public int bestMove(final StoneBoard board, final int playerNum) {
+        if (!contains(board)) {
+            throw new RuntimeException("Position Not In Endgame Database");
+        }
+        final CompactBoard child = new CompactBoard();
+        int bestPit = -1;
+        int best = -Integer.MAX_VALUE;
+        for (int moves = GameRules.legalMoves(board, playerNum); moves != 0; moves &= moves - 1) {
+            final int pit = Integer.numberOfTrailingZeros(moves);
+            child.copyFrom(board);
+            final int next = rules.playMove(child, pit, playerNum);
+            final int score = next == playerNum ? probe(child, next) : -probe(child, next);
+            if (score > best) {
+                best = score;
+                bestPit = pit;
+            }
+        }
+        return bestPit;
+    }
+}
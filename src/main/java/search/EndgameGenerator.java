@@ -0,0 +1,139 @@
+package search;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import mancala.CompactBoard;
+import mancala.GameRules;
+import mancala.KalahRules;
+
+/**
+ * A class used to solve every Kalah position with few stones left in its pits
+ * and write the results to an endgame database file.
+ *
+ * Stones never leave a store, so the perfect result from a position only depends
+ * on the stones in its pits. The positions are solved backwards, from those with
+ * no stones left upwards: a move that puts a stone in a store or captures leads
+ * to a position with fewer stones, which is already solved. A move that does
+ * neither only pushes stones along the mover's own side towards their store, so
+ * the positions with the same number of stones cannot repeat and each is solved
+ * from the ones it leads to in a single memoized pass.
+ *
+ * The file holds a header of three ints (magic number, version and largest
+ * number of stones) followed by one signed byte per position, in the order of
+ * PositionIndex: the difference between the stones the player to move and their
+ * opponent will still gain from the pits under perfect play.
+ */
+public final class EndgameGenerator {
+
+    /**
+     * The first int of every endgame database file.
+     */
+    static final int MAGIC = 0x4B454744;
+    /**
+     * The version of the file layout.
+     */
+    static final int VERSION = 1;
+    /**
+     * The size of the file header in bytes.
+     */
+    static final int HEADER_BYTES = 12;
+    /**
+     * The marker of a position that has not been solved yet.
+     */
+    private static final byte UNSOLVED = Byte.MIN_VALUE;
+
+    /**
+     * The rule set whose moves are solved.
+     */
+    private final KalahRules rules = new KalahRules();
+    /**
+     * The solved value of every position.
+     */
+    private final byte[] values;
+    /**
+     * The board of every level of the memoized descent.
+     */
+    private final CompactBoard[] boards;
+
+    /*created only by solve*/
+    private EndgameGenerator(final int maxStones) {
+        values = new byte[(int) PositionIndex.offset(maxStones + 1)];
+        Arrays.fill(values, UNSOLVED);
+        // each move that keeps every stone in the pits moves one stone at least one pit on
+        boards = new CompactBoard[2 * (PositionIndex.PITS / 2 - 1) * maxStones + 2];
+        for (int i = 0; i < boards.length; i++) {
+            boards[i] = new CompactBoard();
+        }
+    }
+
+    /**
+     * Solves every position with up to a number of stones in its pits and writes
+     * them to a file.
+     *
+     * @param maxStones The most stones in the pits of a solved position (0 to 24).
+     * @param filename  The name of the file to write to.
+     * @throws IOException  If the file cannot be written.
+     */
+    public static void generate(final int maxStones, final String filename) throws IOException {
+        final byte[] values = solve(maxStones);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(filename)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(maxStones);
+            out.write(values);
+        }
+    }
+
+    /**
+     * Solves every position with up to a number of stones in its pits.
+     *
+     * @param maxStones The most stones in the pits of a solved position (0 to 24).
+     * @return  The value of every position, in the order of PositionIndex.
+     */
+    static byte[] solve(final int maxStones) {
+        if (maxStones < 0 || maxStones > PositionIndex.MAX_STONES) {
+            throw new IllegalArgumentException("Endgame Stones Must Be Between 0 And " + PositionIndex.MAX_STONES);
+        }
+        final EndgameGenerator generator = new EndgameGenerator(maxStones);
+        for (int stones = 0; stones <= maxStones; stones++) {
+            final long size = PositionIndex.levelSize(stones);
+            for (long rank = 0; rank < size; rank++) {
+                generator.valueOf(stones, rank, 0);
+            }
+        }
+        return generator.values;
+    }
+
+    /*gets the value of a position for player one to move, solving it first if needed*/
+    private int valueOf(final int stones, final long rank, final int level) {
+        final int index = (int) (PositionIndex.offset(stones) + rank);
+        if (values[index] != UNSOLVED) {
+            return values[index];
+        }
+        final CompactBoard board = boards[level];
+        PositionIndex.fill(stones, rank, board);
+
+        int best;
+        if (AlphaBetaSearch.isGameOver(board)) {
+            best = AlphaBetaSearch.finalScore(board, 1);
+        } else {
+            best = -Integer.MAX_VALUE;
+            final CompactBoard child = boards[level + 1];
+            for (int moves = GameRules.legalMoves(board, 1); moves != 0; moves &= moves - 1) {
+                child.copyFrom(board);
+                final int next = rules.playMove(child, Integer.numberOfTrailingZeros(moves), 1);
+                final int gain = child.getStoreCount(1) - child.getStoreCount(2);
+                final int left = stones - child.getStoreCount(1) - child.getStoreCount(2);
+                final long childRank = PositionIndex.indexOf(child, next) - PositionIndex.offset(left);
+                final int childValue = valueOf(left, childRank, level + 1);
+                best = Math.max(best, next == 1 ? gain + childValue : gain - childValue);
+            }
+        }
+        values[index] = (byte) best;
+        return best;
+    }
+}
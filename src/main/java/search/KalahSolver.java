@@ -0,0 +1,115 @@
+package search;
+
+import mancala.CompactBoard;
+import mancala.GameRules;
+import mancala.KalahRules;
+
+/**
+ * A class used to solve Kalah positions completely: it finds the final stone
+ * difference both players reach with perfect play, and every first move that
+ * reaches it. Solving the start position of Kalah(6, n) for a small number of
+ * stones n gives the ground truth that bots can be checked against.
+ *
+ * The solver drives an AlphaBetaSearch with no depth limit, since every Kalah
+ * game ends, homing in on the value with null-window searches (MTD(f)) and then
+ * testing each first move against it. Its transposition table is a
+ * MappedTranspositionTable, so the table may be far larger than the heap and can
+ * be kept on disk between runs. The depth of each entry is the log of the
+ * positions searched below it, so the most expensive results are the last to be
+ * replaced. An endgame database, if one is given, ends the search as soon as few
+ * enough stones are left in the pits.
+ */
+public class KalahSolver {
+
+    /**
+     * A score larger than any difference in stones.
+     */
+    private static final int INFINITY = AlphaBetaSearch.INFINITY;
+
+    /**
+     * The rule set whose moves are solved.
+     */
+    private final KalahRules rules = new KalahRules();
+    /**
+     * The search run to the end of the game.
+     */
+    private final AlphaBetaSearch search;
+    /**
+     * The number of positions visited by the current solve.
+     */
+    private long nodes;
+
+    /**
+     * Creates a solver storing its results in a table.
+     *
+     * @param transpositions    The table to store results in.
+     */
+    public KalahSolver(final MappedTranspositionTable transpositions) {
+        search = new AlphaBetaSearch(transpositions);
+    }
+
+    /**
+     * Sets the endgame database used to end the search early.
+     *
+     * @param database  The database, or null to search to the end of every game.
+     */
+    public void setEndgameDatabase(final EndgameDatabase database) {
+        search.setEndgameDatabase(database);
+    }
+
+    /**
+     * Solves the start position of Kalah with a number of stones in every pit,
+     * for player one to move.
+     *
+     * @param startStones   The number of stones in each pit at the start.
+     * @return  The value of the game and its optimal first moves.
+     */
+    public SolverResult solve(final int startStones) {
+        return solve(new CompactBoard(startStones), 1);
+    }
+
+    /**
+     * Solves a position.
+     *
+     * @param position  The board to solve; it is not changed.
+     * @param playerNum The player to move (1 or 2).
+     * @return  The value of the position for the player to move and its optimal moves.
+     */
+    public SolverResult solve(final CompactBoard position, final int playerNum) {
+        nodes = 0;
+        final int value = mtdf(position, playerNum, AlphaBetaSearch.evaluate(position, playerNum));
+        if (AlphaBetaSearch.isGameOver(position)) {
+            return new SolverResult(value, 0, nodes);
+        }
+
+        // a move is optimal if it cannot score less than the value
+        int optimal = 0;
+        for (int moves = GameRules.legalMoves(position, playerNum); moves != 0; moves &= moves - 1) {
+            final int pit = Integer.numberOfTrailingZeros(moves);
+            final int score = search.solveMove(rules, position, playerNum, pit, value - 1, value);
+            nodes += search.getNodes();
+            if (score >= value) {
+                optimal |= 1 << pit;
+            }
+        }
+        return new SolverResult(value, optimal, nodes);
+    }
+
+    /*homes in on the value of the root with null-window searches, starting from a guess*/
+    private int mtdf(final CompactBoard position, final int playerNum, final int guess) {
+        int value = guess;
+        int lower = -INFINITY;
+        int upper = INFINITY;
+        while (lower < upper) {
+            final int beta = value == lower ? value + 1 : value;
+            value = search.solveWindow(rules, position, playerNum, beta - 1, beta);
+            nodes += search.getNodes();
+            if (value < beta) {
+                upper = value;
+            } else {
+                lower = value;
+            }
+        }
+        return value;
+    }
+}
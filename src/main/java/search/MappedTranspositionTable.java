@@ -0,0 +1,161 @@
+package search;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A transposition table kept in a memory-mapped file instead of on the heap, for
+ * searches whose tables are larger than the heap. The operating system pages
+ * the file in and out as it is used, so the table may be as large as the disk
+ * allows, and it keeps its entries between runs.
+ *
+ * Entries are packed as in TranspositionTable and use the same two-entry
+ * buckets, with the key XORed with the data. There is no search age: the first
+ * entry of a bucket keeps whichever result has the greater depth. One table
+ * should only be used by one thread at a time.
+ */
+public class MappedTranspositionTable implements ScoreTable, Closeable {
+
+    /**
+     * The number of bytes each entry takes.
+     */
+    private static final int ENTRY_BYTES = 16;
+    /**
+     * The log of the number of entries in each mapped chunk of the file (1 GB).
+     */
+    private static final int CHUNK_SHIFT = 26;
+
+    /**
+     * The file holding the table.
+     */
+    private final RandomAccessFile file;
+    /**
+     * The mapped chunks of the file.
+     */
+    private final MappedByteBuffer[] chunks;
+    /**
+     * The mask that turns a key into the index of the first entry of its bucket.
+     */
+    private final long bucketMask;
+
+    /**
+     * Opens a table file, creating or growing it to the given size.
+     *
+     * @param filename  The name of the file holding the table.
+     * @param megabytes The size of the table in megabytes (at least 1).
+     * @throws IOException  If the file cannot be opened or mapped.
+     */
+    public MappedTranspositionTable(final String filename, final long megabytes) throws IOException {
+        if (megabytes < 1) {
+            throw new IllegalArgumentException("Table Size Must Be At Least 1 MB");
+        }
+        final long entries = Long.highestOneBit(megabytes * 1024 * 1024 / ENTRY_BYTES);
+        final long chunkEntries = Math.min(entries, 1L << CHUNK_SHIFT);
+        file = new RandomAccessFile(filename, "rw");
+        if (file.length() != entries * ENTRY_BYTES) {
+            file.setLength(entries * ENTRY_BYTES);
+        }
+        chunks = new MappedByteBuffer[(int) (entries / chunkEntries)];
+        final FileChannel channel = file.getChannel();
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, i * chunkEntries * ENTRY_BYTES,
+                chunkEntries * ENTRY_BYTES);
+        }
+        bucketMask = entries - 2;
+    }
+
+    /**
+     * Looks up a position.
+     *
+     * @param key   The hash of the position.
+     * @return  The packed entry for the position, or TranspositionTable.MISS if it is not in the table.
+     */
+    public long probe(final long key) {
+        final long index = key & bucketMask;
+        for (long i = index; i < index + 2; i++) {
+            final long entry = dataAt(i);
+            if (entry != TranspositionTable.MISS && (keyAt(i) ^ entry) == key) {
+                return entry;
+            }
+        }
+        return TranspositionTable.MISS;
+    }
+
+    /**
+     * Stores the score of a position.
+     *
+     * @param key   The hash of the position.
+     * @param depth The depth (or other measure of work) behind the score.
+     * @param bound The bound type of the score.
+     * @param score The score of the position for the player to move.
+     * @param move  The best pit found, or 0 if there is none.
+     */
+    public void store(final long key, final int depth, final int bound, final int score, final int move) {
+        final long index = key & bucketMask;
+        final long entry = TranspositionTable.pack(0, depth, bound, score, move);
+
+        for (long i = index; i < index + 2; i++) {
+            final long old = dataAt(i);
+            if (old != TranspositionTable.MISS && (keyAt(i) ^ old) == key) {
+                write(i, key, move == 0 ? TranspositionTable.pack(0, depth, bound, score,
+                    TranspositionTable.moveOf(old)) : entry);
+                return;
+            }
+        }
+
+        final long deepest = dataAt(index);
+        if (deepest == TranspositionTable.MISS || depth >= TranspositionTable.depthOf(deepest)) {
+            write(index, key, entry);
+        } else {
+            write(index + 1, key, entry);
+        }
+    }
+
+    /**
+     * Gets the number of entries the table can hold.
+     *
+     * @return  The capacity of the table.
+     */
+    public long capacity() {
+        return bucketMask + 2;
+    }
+
+    /**
+     * Writes the table back to its file and closes it.
+     *
+     * @throws IOException  If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        for (final MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+        file.close();
+    }
+
+    /*helper method to read the key half of an entry*/
+    private long keyAt(final long index) {
+        return chunks[(int) (index >>> CHUNK_SHIFT)].getLong(offsetOf(index));
+    }
+
+    /*helper method to read the data half of an entry*/
+    private long dataAt(final long index) {
+        return chunks[(int) (index >>> CHUNK_SHIFT)].getLong(offsetOf(index) + Long.BYTES);
+    }
+
+    /*helper method to write both halves of an entry*/
+    private void write(final long index, final long key, final long entry) {
+        final MappedByteBuffer chunk = chunks[(int) (index >>> CHUNK_SHIFT)];
+        final int offset = offsetOf(index);
+        chunk.putLong(offset + Long.BYTES, entry);
+        chunk.putLong(offset, key ^ entry);
+    }
+
+    /*helper method to find an entry within its chunk*/
+    private static int offsetOf(final long index) {
+        return (int) (index & ((1L << CHUNK_SHIFT) - 1)) * ENTRY_BYTES;
+    }
+}
@@ -0,0 +1,292 @@
+package search;
+
+import mancala.CompactBoard;
+import mancala.GameRules;
+
+/**
+ * A computer opponent that picks moves with Monte Carlo tree search (UCT).
+ * Each playout walks down the tree choosing children by their upper confidence
+ * bound, adds the children of the leaf it reaches and then plays random moves
+ * with the rule set's playMove until the game ends. It needs no evaluation of
+ * unfinished positions, which suits Ayo, where relay sowing makes a position
+ * hard to judge by its stores.
+ *
+ * The tree lives in an arena of primitive arrays made once, indexed by node
+ * number, and the children of a node are always next to each other. The arena
+ * is emptied at the start of every search, so a search allocates almost
+ * nothing however many moves it is used for. One instance should only be used
+ * by one thread at a time.
+ */
+public class MonteCarloSearch {
+
+    /**
+     * The number of nodes the arena made by the default constructor holds.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 20;
+    /**
+     * The weight of the exploration term of the upper confidence bound.
+     */
+    private static final double EXPLORATION = 1.4;
+    /**
+     * The deepest the tree is walked in one playout.
+     */
+    private static final int MAX_PATH = 256;
+    /**
+     * The number of random moves after which a playout is scored by its stores.
+     */
+    private static final int MAX_PLAYOUT_MOVES = 1000;
+    /**
+     * How many playouts are run between checks of the clock.
+     */
+    private static final int CLOCK_CHECK_INTERVAL = 64;
+    /**
+     * The marker of a node whose children have not been added yet.
+     */
+    private static final int UNEXPANDED = -1;
+
+    /**
+     * The index of the first child of every node, or UNEXPANDED.
+     */
+    private final int[] firstChild;
+    /**
+     * The number of children of every node.
+     */
+    private final byte[] childCount;
+    /**
+     * The pit played to reach every node.
+     */
+    private final byte[] move;
+    /**
+     * The player who played the move reaching every node.
+     */
+    private final byte[] mover;
+    /**
+     * The player to move at every node, once it has been reached.
+     */
+    private final byte[] toMove;
+    /**
+     * The number of playouts through every node.
+     */
+    private final int[] visits;
+    /**
+     * The total reward (1 a win, 0.5 a draw) of the playouts through every node,
+     * for the player who moved into it.
+     */
+    private final double[] reward;
+    /**
+     * The total final stone difference of the playouts through every node,
+     * for the player who moved into it.
+     */
+    private final double[] margin;
+    /**
+     * The nodes walked by the current playout.
+     */
+    private final int[] path = new int[MAX_PATH + 1];
+    /**
+     * The position the search started from.
+     */
+    private final CompactBoard root = new CompactBoard();
+    /**
+     * The board the current playout is played on.
+     */
+    private final CompactBoard board = new CompactBoard();
+    /**
+     * The number of nodes in use.
+     */
+    private int size;
+    /**
+     * The state of the random number generator.
+     */
+    private long seed;
+
+    /**
+     * Creates a search with an arena of the default size.
+     */
+    public MonteCarloSearch() {
+        this(DEFAULT_CAPACITY, System.nanoTime());
+    }
+
+    /**
+     * Creates a search with an arena of the given size.
+     *
+     * @param capacity      The number of nodes the arena holds (at least 1).
+     * @param randomSeed    The seed of the random playouts.
+     */
+    public MonteCarloSearch(final int capacity, final long randomSeed) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Arena Must Hold At Least 1 Node");
+        }
+        firstChild = new int[capacity];
+        childCount = new byte[capacity];
+        move = new byte[capacity];
+        mover = new byte[capacity];
+        toMove = new byte[capacity];
+        visits = new int[capacity];
+        reward = new double[capacity];
+        margin = new double[capacity];
+        seed = randomSeed == 0 ? 1 : randomSeed;
+    }
+
+    /**
+     * Searches for the best move for the player to move in a game.
+     *
+     * @param game      The game rules holding the position; they are not changed.
+     * @param limits    The limits of the search; its node limit bounds the playouts.
+     * @return  The best move found, as described by the other search method.
+     */
+    public SearchResult search(final GameRules game, final SearchLimits limits) {
+        return search(game, game.toCompactBoard(), game.getPlayer(), limits);
+    }
+
+    /**
+     * Searches for the best move for a player on a board. The result holds the
+     * most visited move, the average final stone difference of its playouts,
+     * the depth of the deepest node added and the number of playouts run.
+     *
+     * @param ruleSet   The rule set used to play moves; its own board is not changed.
+     * @param position  The board to search from; it is not changed.
+     * @param playerNum The player to move (1 or 2).
+     * @param limits    The limits of the search; its node limit bounds the playouts.
+     * @return  The best move found.
+     */
+    public SearchResult search(final GameRules ruleSet, final CompactBoard position, final int playerNum,
+        final SearchLimits limits) {
+        if (GameRules.legalMoves(position, playerNum) == 0 || AlphaBetaSearch.isGameOver(position)) {
+            return new SearchResult(-1, AlphaBetaSearch.finalScore(position, playerNum), 0, 0);
+        }
+        root.copyFrom(position);
+        size = 0;
+        final int rootNode = newNode(0, 3 - playerNum);
+        toMove[rootNode] = (byte) playerNum;
+
+        final long deadline = AlphaBetaSearch.deadlineOf(limits);
+        final long maxPlayouts = limits.getMaxNodes();
+        long playouts = 0;
+        int deepest = 0;
+        // at least one playout runs, so the root always has its children
+        while (playouts == 0 || playouts < maxPlayouts
+            && (playouts % CLOCK_CHECK_INTERVAL != 0 || System.nanoTime() < deadline)) {
+            deepest = Math.max(deepest, playout(ruleSet));
+            playouts++;
+        }
+
+        // the most visited move is the most trusted one
+        int best = firstChild[rootNode];
+        for (int child = best + 1; child < firstChild[rootNode] + childCount[rootNode]; child++) {
+            if (visits[child] > visits[best]) {
+                best = child;
+            }
+        }
+        final int score = visits[best] == 0 ? 0 : (int) Math.round(margin[best] / visits[best]);
+        return new SearchResult(move[best], score, deepest, playouts);
+    }
+
+    /*runs one playout: select, expand, play randomly, then back up the result; returns the path length*/
+    private int playout(final GameRules rules) {
+        board.copyFrom(root);
+        int node = 0;
+        int length = 0;
+        path[length++] = node;
+
+        while (firstChild[node] != UNEXPANDED && childCount[node] > 0 && length <= MAX_PATH) {
+            node = select(node);
+            toMove[node] = (byte) rules.playMove(board, move[node], mover[node]);
+            path[length++] = node;
+        }
+        if (firstChild[node] == UNEXPANDED && length <= MAX_PATH && expand(node)) {
+            node = firstChild[node];
+            toMove[node] = (byte) rules.playMove(board, move[node], mover[node]);
+            path[length++] = node;
+        }
+
+        final int difference = playRandomly(rules, toMove[node]);
+        final double result = difference > 0 ? 1.0 : difference < 0 ? 0.0 : 0.5;
+        for (int i = 0; i < length; i++) {
+            final int n = path[i];
+            visits[n]++;
+            if (mover[n] == 1) {
+                reward[n] += result;
+                margin[n] += difference;
+            } else {
+                reward[n] += 1.0 - result;
+                margin[n] -= difference;
+            }
+        }
+        return length - 1;
+    }
+
+    /*picks the child with the highest upper confidence bound, trying every child once first*/
+    private int select(final int node) {
+        final int first = firstChild[node];
+        final int last = first + childCount[node];
+        final double logVisits = Math.log(visits[node]);
+        int best = first;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int child = first; child < last; child++) {
+            final int n = visits[child];
+            if (n == 0) {
+                return child;
+            }
+            final double value = reward[child] / n + EXPLORATION * Math.sqrt(logVisits / n);
+            if (value > bestValue) {
+                bestValue = value;
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    /*adds a child for every legal move of a node, if the game is not over and the arena has room*/
+    private boolean expand(final int node) {
+        final int player = toMove[node];
+        final int moves = AlphaBetaSearch.isGameOver(board) ? 0 : GameRules.legalMoves(board, player);
+        final int count = Integer.bitCount(moves);
+        if (size + count > firstChild.length) {
+            return false;
+        }
+        firstChild[node] = size;
+        childCount[node] = (byte) count;
+        for (int rest = moves; rest != 0; rest &= rest - 1) {
+            newNode(Integer.numberOfTrailingZeros(rest), player);
+        }
+        return count > 0;
+    }
+
+    /*helper method to take the next node from the arena*/
+    private int newNode(final int pit, final int player) {
+        final int node = size++;
+        firstChild[node] = UNEXPANDED;
+        childCount[node] = 0;
+        move[node] = (byte) pit;
+        mover[node] = (byte) player;
+        visits[node] = 0;
+        reward[node] = 0;
+        margin[node] = 0;
+        return node;
+    }
+
+    /*plays random moves to the end of the game and returns player one's final stone difference*/
+    private int playRandomly(final GameRules rules, final int firstPlayer) {
+        int player = firstPlayer;
+        for (int i = 0; i < MAX_PLAYOUT_MOVES; i++) {
+            if (AlphaBetaSearch.isGameOver(board)) {
+                return AlphaBetaSearch.finalScore(board, 1);
+            }
+            player = rules.playMove(board, randomMove(GameRules.legalMoves(board, player)), player);
+        }
+        return AlphaBetaSearch.evaluate(board, 1);
+    }
+
+    /*picks one of the pits in a move mask at random*/
+    private int randomMove(final int moves) {
+        // xorshift keeps the playouts free of allocation and locking
+        seed ^= seed << 13;
+        seed ^= seed >>> 7;
+        seed ^= seed << 17;
+        int rest = moves;
+        for (int skip = (int) ((seed >>> 1) % Integer.bitCount(moves)); skip > 0; skip--) {
+            rest &= rest - 1;
+        }
+        return Integer.numberOfTrailingZeros(rest);
+    }
+}
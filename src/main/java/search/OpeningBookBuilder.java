@@ -0,0 +1,135 @@
+package search;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import mancala.AyoRules;
+import mancala.CompactBoard;
+import mancala.GameRules;
+import mancala.KalahRules;
+import mancala.OpeningBook;
+
+/**
+ * A class used to build opening books offline: it finds every position reachable
+ * in the first plies of a game, searches each one once and records its best move.
+ */
+public class OpeningBookBuilder {
+
+    /**
+     * The search used to find the best move of each position.
+     */
+    private final AlphaBetaSearch search = new AlphaBetaSearch();
+    /**
+     * The positions found so far, by hash.
+     */
+    private final Map<Long, Position> positions = new LinkedHashMap<>();
+
+    /**
+     * Builds a book for the first plies of a game and saves it to a file.
+     *
+     * @param rules         The rule set to build the book for.
+     * @param startStones   The number of stones in each pit at the start.
+     * @param plies         The number of moves from the start to cover.
+     * @param limits        The limits of the search of each position.
+     * @param filename      The name of the file to write to.
+     * @return  The book that was saved.
+     * @throws IOException  If the book cannot be saved.
+     */
+    public static OpeningBook build(final GameRules rules, final int startStones, final int plies,
+        final SearchLimits limits, final String filename) throws IOException {
+        final OpeningBook book = new OpeningBookBuilder().build(rules, startStones, plies, limits);
+        book.save(filename);
+        return book;
+    }
+
+    /**
+     * Builds a book for the first plies of a game.
+     *
+     * @param rules         The rule set to build the book for.
+     * @param startStones   The number of stones in each pit at the start.
+     * @param plies         The number of moves from the start to cover.
+     * @param limits        The limits of the search of each position.
+     * @return  The book.
+     */
+    public OpeningBook build(final GameRules rules, final int startStones, final int plies,
+        final SearchLimits limits) {
+        positions.clear();
+        collect(rules, new CompactBoard(startStones), 1, plies);
+
+        final OpeningBook book = new OpeningBook(OpeningBook.rulesNameOf(rules), startStones, positions.size());
+        for (final Map.Entry<Long, Position> position : positions.entrySet()) {
+            final Position found = position.getValue();
+            final SearchResult result = search.search(rules, found.board, found.playerNum, limits);
+            book.put(position.getKey(), result.getBestPit(), result.getScore());
+        }
+        return book;
+    }
+
+    /**
+     * Builds the Kalah and Ayo books for a number of start stones into a folder,
+     * where the user interfaces load them at startup.
+     *
+     * @param args  The start stones (default 4), plies (default 6), search depth
+     *              (default 8) and folder (default assets/books).
+     * @throws IOException  If a book cannot be saved.
+     */
+    public static void main(final String[] args) throws IOException {
+        final int stones = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        final int plies = args.length > 1 ? Integer.parseInt(args[1]) : 6;
+        final int depth = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+        final String folder = args.length > 3 ? args[3] : "assets/books";
+        new File(folder).mkdirs();
+        for (final GameRules rules : new GameRules[] {new KalahRules(), new AyoRules()}) {
+            final String filename = new File(folder, OpeningBook.fileNameOf(rules, stones)).getPath();
+            final OpeningBook book = build(rules, stones, plies, SearchLimits.depth(depth), filename);
+            System.out.println(filename + ": " + book.size() + " positions");
+        }
+    }
+
+    /*adds every unfinished position within a number of moves of a board*/
+    private void collect(final GameRules rules, final CompactBoard board, final int playerNum, final int plies) {
+        if (plies <= 0 || AlphaBetaSearch.isGameOver(board)) {
+            return;
+        }
+        // a position reached again is only expanded again if more moves are left to cover
+        final long key = GameRules.positionHash(board, playerNum);
+        final Position found = positions.get(key);
+        if (found != null && found.plies >= plies) {
+            return;
+        }
+        positions.put(key, new Position(new CompactBoard(board), playerNum, plies));
+
+        for (int moves = GameRules.legalMoves(board, playerNum); moves != 0; moves &= moves - 1) {
+            final CompactBoard child = new CompactBoard(board);
+            final int next = rules.playMove(child, Integer.numberOfTrailingZeros(moves), playerNum);
+            collect(rules, child, next, plies - 1);
+        }
+    }
+
+    /**
+     * A position found while building a book.
+     */
+    private static final class Position {
+        /**
+         * The board of the position.
+         */
+        private final CompactBoard board;
+        /**
+         * The player to move.
+         */
+        private final int playerNum;
+        /**
+         * The most moves left to cover from any path that reached the position.
+         */
+        private final int plies;
+
+        /*creates a position found with a number of moves left*/
+        private Position(final CompactBoard found, final int player, final int movesLeft) {
+            board = found;
+            playerNum = player;
+            plies = movesLeft;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import mancala.CompactBoard;
+import mancala.GameRules;
+
+/**
+ * A multi-threaded search in the Lazy SMP style: every worker runs its own
+ * iterative-deepening alpha-beta search on its own boards, and they only share
+ * the lock-free transposition table. Scores one worker stores cut off or order
+ * the moves of the others, so together they reach a greater depth than one
+ * thread would in the same time.
+ *
+ * The calling thread runs the first worker and the others run on a fixed pool
+ * of daemon threads. Half of the helpers start one iteration deeper than the
+ * first worker so that they fill the table ahead of it. When the first worker
+ * finishes, the helpers are stopped and the deepest finished result is returned.
+ *
+ * The node limit covers all the workers together: each adds its nodes to a
+ * shared count every time it reads the clock, so the total can pass the limit
+ * by at most that interval per worker.
+ *
+ * The rule set is only used through playMove, which does not change it, so all
+ * workers share it. One ParallelSearch should only run one search at a time.
+ */
+public class ParallelSearch {
+
+    /**
+     * The table shared by every worker.
+     */
+    private final TranspositionTable table;
+    /**
+     * The searches run by each worker; the first runs on the calling thread.
+     */
+    private final AlphaBetaSearch[] workers;
+    /**
+     * The nodes visited by all the workers in the current search.
+     */
+    private final AtomicLong nodeCount = new AtomicLong();
+    /**
+     * The threads running the helper workers, or null if there is only one worker.
+     */
+    private final ExecutorService pool;
+
+    /**
+     * Creates a search with a number of threads and a table of the default size.
+     *
+     * @param threads   The number of threads to search with (at least 1).
+     */
+    public ParallelSearch(final int threads) {
+        this(threads, new TranspositionTable(AlphaBetaSearch.DEFAULT_TABLE_MEGABYTES));
+    }
+
+    /**
+     * Creates a search with a number of threads sharing the given table.
+     *
+     * @param threads           The number of threads to search with (at least 1).
+     * @param transpositions    The transposition table the workers share.
+     */
+    public ParallelSearch(final int threads, final TranspositionTable transpositions) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread Count Must Be At Least 1");
+        }
+        table = transpositions;
+        workers = new AlphaBetaSearch[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new AlphaBetaSearch(table);
+            if (threads > 1) {
+                workers[i].shareNodeCount(nodeCount);
+            }
+        }
+        pool = threads == 1 ? null : Executors.newFixedThreadPool(threads - 1, task -> {
+            final Thread thread = new Thread(task, "search-helper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Searches for the best move for the player to move in a game.
+     *
+     * @param game      The game rules holding the position; they are not changed.
+     * @param limits    The limits of the search; the node limit covers all the workers together.
+     * @return  The best move found, with the nodes of every worker counted.
+     */
+    public SearchResult search(final GameRules game, final SearchLimits limits) {
+        return search(game, game.toCompactBoard(), game.getPlayer(), limits);
+    }
+
+    /**
+     * Searches for the best move for a player on a board.
+     *
+     * @param ruleSet   The rule set used to play moves; its own board is not changed.
+     * @param position  The board to search from; it is not changed.
+     * @param playerNum The player to move (1 or 2).
+     * @param limits    The limits of the search; the node limit covers all the workers together.
+     * @return  The best move found, with the nodes of every worker counted.
+     */
+    public SearchResult search(final GameRules ruleSet, final CompactBoard position, final int playerNum,
+        final SearchLimits limits) {
+        final long stopTime = AlphaBetaSearch.deadlineOf(limits);
+        workers[0].prepareTable(ruleSet);
+        nodeCount.set(0);
+
+        final List<Future<SearchResult>> helpers = new ArrayList<>();
+        for (int i = 1; i < workers.length; i++) {
+            final AlphaBetaSearch worker = workers[i];
+            final CompactBoard board = new CompactBoard(position);
+            final int firstDepth = 1 + (i & 1);
+            worker.clearStop();
+            helpers.add(pool.submit(() -> worker.deepen(ruleSet, board, playerNum, limits, firstDepth, stopTime)));
+        }
+
+        workers[0].clearStop();
+        SearchResult best = workers[0].deepen(ruleSet, position, playerNum, limits, 1, stopTime);
+        long nodes = best.getNodes();
+        for (int i = 1; i < workers.length; i++) {
+            workers[i].stop();
+        }
+        for (final Future<SearchResult> helper : helpers) {
+            final SearchResult result = join(helper);
+            nodes += result.getNodes();
+            if (result.getDepth() > best.getDepth()) {
+                best = result;
+            }
+        }
+        return new SearchResult(best.getBestPit(), best.getScore(), best.getDepth(), nodes);
+    }
+
+    /**
+     * Sets the endgame database every worker probes when searching Kalah.
+     *
+     * @param database  The database, or null to search every position.
+     */
+    public void setEndgameDatabase(final EndgameDatabase database) {
+        for (final AlphaBetaSearch worker : workers) {
+            worker.setEndgameDatabase(database);
+        }
+    }
+
+    /**
+     * Gets the number of threads the search runs on.
+     *
+     * @return  The thread count.
+     */
+    public int getThreadCount() {
+        return workers.length;
+    }
+
+    /**
+     * Stops the helper threads; the search cannot be used afterwards.
+     */
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /*helper method to wait for a helper worker's result*/
+    private static SearchResult join(final Future<SearchResult> helper) {
+        try {
+            return helper.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Search Interrupted");
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Search Worker Failed", e.getCause());
+        }
+    }
+}
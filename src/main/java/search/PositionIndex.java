@@ -0,0 +1,143 @@
+package search;
+
+import mancala.CompactBoard;
+import mancala.StoneBoard;
+
+/**
+ * A class used to number Kalah positions densely by the stones in their pits,
+ * for the endgame database. The twelve pits are read starting with the side of
+ * the player to move, so a position and its mirror image with the other player
+ * to move share a number, and the stores are ignored.
+ *
+ * Positions with k stones in their pits come after every position with fewer
+ * stones, and among themselves are ranked in lexicographic order with the
+ * combinatorial number system: there are C(k + 11, 11) of them.
+ */
+final class PositionIndex {
+
+    /**
+     * The number of pits on the board.
+     */
+    static final int PITS = 12;
+    /**
+     * The most stones an index can hold in its pits, so that every number fits in an int.
+     */
+    static final int MAX_STONES = 24;
+
+    /**
+     * The slot of every pit in reading order, for player one and player two to move.
+     */
+    private static final int[][] SLOT_ORDER = {
+        {0, 1, 2, 3, 4, 5, 7, 8, 9, 10, 11, 12},
+        {7, 8, 9, 10, 11, 12, 0, 1, 2, 3, 4, 5},
+    };
+    /**
+     * The binomial coefficients C(n, r) for every n and r the index needs.
+     */
+    private static final long[][] BINOMIAL = new long[MAX_STONES + PITS + 1][PITS + 1];
+
+    static {
+        for (int n = 0; n < BINOMIAL.length; n++) {
+            BINOMIAL[n][0] = 1;
+            for (int r = 1; r <= Math.min(n, PITS); r++) {
+                BINOMIAL[n][r] = BINOMIAL[n - 1][r - 1] + (r <= n - 1 ? BINOMIAL[n - 1][r] : 0);
+            }
+        }
+    }
+
+    /*utility class, so it is never created*/
+    private PositionIndex() {
+    }
+
+    /**
+     * Counts the stones in the pits of a board.
+     *
+     * @param board The board to count.
+     * @return  The stones in all twelve pits.
+     */
+    static int stonesInPits(final StoneBoard board) {
+        int stones = 0;
+        for (final int slot : SLOT_ORDER[0]) {
+            stones += board.getSlotCount(slot);
+        }
+        return stones;
+    }
+
+    /**
+     * Gets the number of the first position with a number of stones in its pits.
+     *
+     * @param stones    The stones in the pits.
+     * @return  The number of positions with fewer stones.
+     */
+    static long offset(final int stones) {
+        return BINOMIAL[stones + PITS - 1][PITS];
+    }
+
+    /**
+     * Gets the number of positions with a number of stones in their pits.
+     *
+     * @param stones    The stones in the pits.
+     * @return  The number of ways to spread the stones over the twelve pits.
+     */
+    static long levelSize(final int stones) {
+        return BINOMIAL[stones + PITS - 1][PITS - 1];
+    }
+
+    /**
+     * Numbers the position on a board with a player to move.
+     *
+     * @param board     The board, with at most MAX_STONES stones in its pits.
+     * @param playerNum The player to move (1 or 2).
+     * @return  The number of the position.
+     */
+    static long indexOf(final StoneBoard board, final int playerNum) {
+        final int[] slots = SLOT_ORDER[playerNum - 1];
+        final int stones = stonesInPits(board);
+        int remaining = stones;
+        long rank = 0;
+        // positions with fewer stones in this pit come first
+        for (int i = 0; i < PITS - 1 && remaining > 0; i++) {
+            final int count = board.getSlotCount(slots[i]);
+            final int later = PITS - 1 - i;
+            rank += BINOMIAL[remaining + later][later] - BINOMIAL[remaining - count + later][later];
+            remaining -= count;
+        }
+        return offset(stones) + rank;
+    }
+
+    /**
+     * Fills a board with the position of a number, with player one to move and
+     * empty stores.
+     *
+     * @param stones    The stones in the pits of the position.
+     * @param rank      The number of the position among those with as many stones.
+     * @param board     The board to fill.
+     */
+    static void fill(final int stones, final long rank, final CompactBoard board) {
+        final int[] slots = SLOT_ORDER[0];
+        board.emptyStores();
+        int remaining = stones;
+        long left = rank;
+        for (int i = 0; i < PITS - 1; i++) {
+            final int later = PITS - 1 - i;
+            int count = 0;
+            // skip the blocks of positions with fewer stones in this pit
+            while (count < remaining) {
+                final long block = BINOMIAL[remaining - count + later - 1][later - 1];
+                if (left < block) {
+                    break;
+                }
+                left -= block;
+                count++;
+            }
+            setCount(board, slots[i], count);
+            remaining -= count;
+        }
+        setCount(board, slots[PITS - 1], remaining);
+    }
+
+    /*helper method to set the count of a slot*/
+    private static void setCount(final CompactBoard board, final int slot, final int count) {
+        board.addToSlot(slot, count - board.getSlotCount(slot));
+    }
+}
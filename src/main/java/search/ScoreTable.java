@@ -0,0 +1,27 @@
+package search;
+
+/**
+ * A table of scored positions that an AlphaBetaSearch probes and stores into,
+ * with entries packed as in TranspositionTable.
+ */
+interface ScoreTable {
+
+    /**
+     * Looks up a position.
+     *
+     * @param key   The hash of the position.
+     * @return  The packed entry for the position, or TranspositionTable.MISS if it is not in the table.
+     */
+    long probe(long key);
+
+    /**
+     * Stores the score of a position.
+     *
+     * @param key   The hash of the position.
+     * @param depth The depth the position was searched to.
+     * @param bound The bound type of the score (EXACT, LOWER_BOUND or UPPER_BOUND).
+     * @param score The score of the position for the player to move.
+     * @param move  The best pit found, or 0 if there is none.
+     */
+    void store(long key, int depth, int bound, int score, int move);
+}
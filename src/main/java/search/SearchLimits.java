@@ -0,0 +1,84 @@
+package search;
+
+/**
+ * A class used to hold the limits of a search: how deep it may go, how many
+ * positions it may visit and how long it may take.
+ */
+public class SearchLimits {
+
+    /**
+     * The deepest iteration the search may start.
+     */
+    private final int maxDepth;
+    /**
+     * The number of positions the search may visit before it stops.
+     */
+    private final long maxNodes;
+    /**
+     * The number of milliseconds the search may take before it stops.
+     */
+    private final long maxMillis;
+
+    /**
+     * Creates limits for a search.
+     *
+     * @param depth     The deepest iteration the search may start (at least 1).
+     * @param nodes     The number of positions the search may visit.
+     * @param millis    The number of milliseconds the search may take.
+     */
+    public SearchLimits(final int depth, final long nodes, final long millis) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Search Depth Must Be At Least 1");
+        }
+        maxDepth = depth;
+        maxNodes = nodes;
+        maxMillis = millis;
+    }
+
+    /**
+     * Creates limits that only bound the depth of the search.
+     *
+     * @param depth The deepest iteration the search may start.
+     * @return  The limits.
+     */
+    public static SearchLimits depth(final int depth) {
+        return new SearchLimits(depth, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates limits that only bound the time the search may take.
+     *
+     * @param millis    The number of milliseconds the search may take.
+     * @return  The limits.
+     */
+    public static SearchLimits time(final long millis) {
+        return new SearchLimits(AlphaBetaSearch.MAX_DEPTH, Long.MAX_VALUE, millis);
+    }
+
+    /**
+     * Gets the deepest iteration the search may start.
+     *
+     * @return  The maximum depth.
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Gets the number of positions the search may visit.
+     *
+     * @return  The maximum number of nodes.
+     */
+    public long getMaxNodes() {
+        return maxNodes;
+    }
+
+    /**
+     * Gets the number of milliseconds the search may take.
+     *
+     * @return  The maximum time in milliseconds.
+     */
+    public long getMaxMillis() {
+        return maxMillis;
+    }
+}
@@ -0,0 +1,81 @@
+package search;
+
+/**
+ * A class used to hold the outcome of a search.
+ */
+public class SearchResult {
+
+    /**
+     * The pit the search chose to move from.
+     */
+    private final int bestPit;
+    /**
+     * The score of the best move, in stones, for the player to move.
+     */
+    private final int score;
+    /**
+     * The depth of the deepest iteration that finished.
+     */
+    private final int depth;
+    /**
+     * The number of positions visited.
+     */
+    private final long nodes;
+
+    /**
+     * Creates the outcome of a search.
+     *
+     * @param pit           The pit the search chose to move from.
+     * @param bestScore     The score of the best move for the player to move.
+     * @param finishedDepth The depth of the deepest iteration that finished.
+     * @param nodeCount     The number of positions visited.
+     */
+    public SearchResult(final int pit, final int bestScore, final int finishedDepth, final long nodeCount) {
+        bestPit = pit;
+        score = bestScore;
+        depth = finishedDepth;
+        nodes = nodeCount;
+    }
+
+    /**
+     * Gets the pit the search chose to move from.
+     *
+     * @return  The best pit, or -1 if the player had no moves.
+     */
+    public int getBestPit() {
+        return bestPit;
+    }
+
+    /**
+     * Gets the score of the best move: the difference between the player's
+     * stones and their opponent's that the search expects to reach.
+     *
+     * @return  The score for the player to move.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the depth of the deepest iteration that finished.
+     *
+     * @return  The depth searched.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Gets the number of positions visited.
+     *
+     * @return  The number of nodes.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    @Override
+    public String toString() {
+        return "Pit " + bestPit + " scoring " + score + " at depth " + depth + " (" + nodes + " nodes)";
+    }
+}
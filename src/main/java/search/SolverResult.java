@@ -0,0 +1,82 @@
+package search;
+
+import java.util.Arrays;
+
+/**
+ * A class used to hold the game-theoretic value of a position solved by KalahSolver.
+ */
+public class SolverResult {
+
+    /**
+     * The final stone difference for the player to move under perfect play.
+     */
+    private final int value;
+    /**
+     * A bitmask with bit pit set for every move that reaches the value.
+     */
+    private final int optimalMoves;
+    /**
+     * The number of positions visited.
+     */
+    private final long nodes;
+
+    /**
+     * Creates the result of a solve.
+     *
+     * @param perfectValue  The final stone difference for the player to move.
+     * @param moves         A bitmask with bit pit set for every optimal move.
+     * @param nodeCount     The number of positions visited.
+     */
+    public SolverResult(final int perfectValue, final int moves, final long nodeCount) {
+        value = perfectValue;
+        optimalMoves = moves;
+        nodes = nodeCount;
+    }
+
+    /**
+     * Gets the final stone difference for the player to move when both play perfectly.
+     *
+     * @return  The value of the position; positive if the player to move wins.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the moves that reach the value of the position.
+     *
+     * @return  The optimal pits in increasing order.
+     */
+    public int[] getOptimalPits() {
+        final int[] pits = new int[Integer.bitCount(optimalMoves)];
+        int i = 0;
+        for (int moves = optimalMoves; moves != 0; moves &= moves - 1) {
+            pits[i++] = Integer.numberOfTrailingZeros(moves);
+        }
+        return pits;
+    }
+
+    /**
+     * Checks if a move reaches the value of the position.
+     *
+     * @param pit   The pit to check.
+     * @return  True if the move is optimal, and false otherwise.
+     */
+    public boolean isOptimal(final int pit) {
+        return (optimalMoves & 1 << pit) != 0;
+    }
+
+    /**
+     * Gets the number of positions visited.
+     *
+     * @return  The number of nodes.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    @Override
+    public String toString() {
+        return "Value " + value + " with pits " + Arrays.toString(getOptimalPits()) + " (" + nodes + " nodes)";
+    }
+}
@@ -0,0 +1,221 @@
+package search;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size, open-addressed table of positions the search has already scored,
+ * keyed by the position hash. Each entry is packed into two longs held in plain
+ * arrays, so the table never allocates after it is created and its memory use
+ * stays constant however long it is used.
+ *
+ * Entries live in buckets of two: the first keeps the deepest result seen for
+ * the bucket (unless it is left over from an older search) and the second always
+ * takes the newest result. The key is stored XORed with the data, so an entry
+ * whose two halves do not belong together is treated as a miss. That lets
+ * searches on several threads share one table without locks: a half-written
+ * entry read by another thread simply misses. Only one thread should call
+ * newSearch or clear, while no search is running.
+ */
+public class TranspositionTable implements ScoreTable {
+
+    /**
+     * The bound type of a score that is exact.
+     */
+    public static final int EXACT = 0;
+    /**
+     * The bound type of a score that is at least the stored score.
+     */
+    public static final int LOWER_BOUND = 1;
+    /**
+     * The bound type of a score that is at most the stored score.
+     */
+    public static final int UPPER_BOUND = 2;
+    /**
+     * The value returned by probe when a position is not in the table.
+     */
+    public static final long MISS = 0L;
+
+    /**
+     * The number of bytes each entry takes.
+     */
+    private static final int ENTRY_BYTES = 16;
+    /**
+     * A bit set in every stored entry so that no stored entry equals MISS.
+     */
+    private static final long VALID_BIT = 1L << 63;
+
+    /**
+     * The keys of the entries, each XORed with its data.
+     */
+    private final long[] keys;
+    /**
+     * The packed score, depth, bound, move and age of the entries.
+     */
+    private final long[] data;
+    /**
+     * The mask that turns a key into the index of the first entry of its bucket.
+     */
+    private final int bucketMask;
+    /**
+     * The age of the current search, kept in the low 8 bits.
+     */
+    private int age;
+
+    /**
+     * Creates a table using at most the given number of megabytes.
+     *
+     * @param megabytes The memory the table may use (at least 1).
+     */
+    public TranspositionTable(final int megabytes) {
+        if (megabytes < 1) {
+            throw new IllegalArgumentException("Table Size Must Be At Least 1 MB");
+        }
+        final long maxEntries = (long) megabytes * 1024 * 1024 / ENTRY_BYTES;
+        final int entries = (int) Math.min(Long.highestOneBit(maxEntries), 1 << 30);
+        keys = new long[entries];
+        data = new long[entries];
+        bucketMask = entries - 2;
+    }
+
+    /**
+     * Looks up a position.
+     *
+     * @param key   The hash of the position.
+     * @return  The packed entry for the position, or MISS if it is not in the table.
+     */
+    public long probe(final long key) {
+        final int index = (int) key & bucketMask;
+        for (int i = index; i < index + 2; i++) {
+            final long entry = data[i];
+            if (entry != MISS && (keys[i] ^ entry) == key) {
+                return entry;
+            }
+        }
+        return MISS;
+    }
+
+    /**
+     * Stores the score of a position.
+     *
+     * @param key   The hash of the position.
+     * @param depth The depth the position was searched to.
+     * @param bound The bound type of the score (EXACT, LOWER_BOUND or UPPER_BOUND).
+     * @param score The score of the position for the player to move.
+     * @param move  The best pit found, or 0 if there is none.
+     */
+    public void store(final long key, final int depth, final int bound, final int score, final int move) {
+        final int index = (int) key & bucketMask;
+        final long entry = pack(age, depth, bound, score, move);
+
+        // the same position is overwritten in place, keeping its old best move if there is no new one
+        for (int i = index; i < index + 2; i++) {
+            final long old = data[i];
+            if (old != MISS && (keys[i] ^ old) == key) {
+                write(i, key, move == 0 ? pack(age, depth, bound, score, moveOf(old)) : entry);
+                return;
+            }
+        }
+
+        final long deepest = data[index];
+        if (deepest == MISS || ageOf(deepest) != age || depth >= depthOf(deepest)) {
+            write(index, key, entry);
+        } else {
+            write(index + 1, key, entry);
+        }
+    }
+
+    /**
+     * Starts a new search, so that entries from older searches are replaced first.
+     */
+    public void newSearch() {
+        age = (age + 1) & 0xFF;
+    }
+
+    /**
+     * Empties the table.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(data, MISS);
+    }
+
+    /**
+     * Gets the number of entries the table can hold.
+     *
+     * @return  The capacity of the table.
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    /*helper method to write both halves of an entry*/
+    private void write(final int index, final long key, final long entry) {
+        data[index] = entry;
+        keys[index] = key ^ entry;
+    }
+
+    /**
+     * Packs the fields of an entry into a long that is never MISS.
+     *
+     * @param age   The age of the search storing the entry.
+     * @param depth The depth the position was searched to.
+     * @param bound The bound type of the score.
+     * @param score The score of the position.
+     * @param move  The best pit, or 0 if there is none.
+     * @return  The packed entry.
+     */
+    static long pack(final int age, final int depth, final int bound, final int score, final int move) {
+        return VALID_BIT | (long) (age & 0xFF) << 48 | (long) (move & 0xF) << 42 | (long) (bound & 0x3) << 40
+            | (long) (Math.min(depth, 0xFF) & 0xFF) << 32 | score & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Gets the score of a packed entry.
+     *
+     * @param entry The entry returned by probe.
+     * @return  The stored score.
+     */
+    public static int scoreOf(final long entry) {
+        return (int) entry;
+    }
+
+    /**
+     * Gets the depth of a packed entry.
+     *
+     * @param entry The entry returned by probe.
+     * @return  The depth the position was searched to.
+     */
+    public static int depthOf(final long entry) {
+        return (int) (entry >>> 32) & 0xFF;
+    }
+
+    /**
+     * Gets the bound type of a packed entry.
+     *
+     * @param entry The entry returned by probe.
+     * @return  EXACT, LOWER_BOUND or UPPER_BOUND.
+     */
+    public static int boundOf(final long entry) {
+        return (int) (entry >>> 40) & 0x3;
+    }
+
+    /**
+     * Gets the best move of a packed entry.
+     *
+     * @param entry The entry returned by probe.
+     * @return  The best pit, or 0 if there is none.
+     */
+    public static int moveOf(final long entry) {
+        return (int) (entry >>> 42) & 0xF;
+    }
+
+    /**
+     * Gets the age of a packed entry.
+     *
+     * @param entry The entry returned by probe.
+     * @return  The age of the search that stored it.
+     */
+    static int ageOf(final long entry) {
+        return (int) (entry >>> 48) & 0xFF;
+    }
+}
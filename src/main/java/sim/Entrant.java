@@ -0,0 +1,89 @@
+package sim;
+
+import java.util.function.LongFunction;
+
+import search.SearchLimits;
+
+/**
+ * A named player in a tournament, which makes a fresh policy for every game it
+ * plays so that games can run at the same time.
+ */
+public class Entrant {
+
+    /**
+     * The name shown in results and standings.
+     */
+    private final String name;
+    /**
+     * Makes the entrant's policy for a game from a seed.
+     */
+    private final LongFunction<MovePolicy> policies;
+
+    /**
+     * Creates an entrant.
+     *
+     * @param entrantName   The name shown in results and standings.
+     * @param factory       Makes the entrant's policy for a game from a seed.
+     */
+    public Entrant(final String entrantName, final LongFunction<MovePolicy> factory) {
+        name = entrantName;
+        policies = factory;
+    }
+
+    /**
+     * Creates an entrant playing random moves.
+     *
+     * @return  The entrant.
+     */
+    public static Entrant random() {
+        return new Entrant("random", RandomPolicy::new);
+    }
+
+    /**
+     * Creates an entrant playing the greediest move.
+     *
+     * @return  The entrant.
+     */
+    public static Entrant greedy() {
+        return new Entrant("greedy", seed -> new GreedyPolicy());
+    }
+
+    /**
+     * Creates an entrant searching each move with alpha-beta to a fixed depth.
+     *
+     * @param depth The depth of each search.
+     * @return  The entrant.
+     */
+    public static Entrant alphaBeta(final int depth) {
+        return new Entrant("alphabeta-" + depth, seed -> new SearchPolicy(SearchLimits.depth(depth)));
+    }
+
+    /**
+     * Creates an entrant searching each move with a number of Monte Carlo playouts.
+     *
+     * @param playouts  The number of playouts of each search.
+     * @return  The entrant.
+     */
+    public static Entrant monteCarlo(final int playouts) {
+        return new Entrant("mcts-" + playouts, seed -> new MonteCarloPolicy(playouts, seed));
+    }
+
+    /**
+     * Gets the name of the entrant.
+     *
+     * @return  The name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Makes the entrant's policy for one game.
+     *
+     * @param seed  The seed of the game.
+     * @return  The policy.
+     */
+    MovePolicy newPolicy(final long seed) {
+        return policies.apply(seed);
+    }
+}
@@ -0,0 +1,136 @@
+package sim;
+
+/**
+ * A class used to hold the result of one tournament game.
+ */
+public class GameRecord {
+
+    /**
+     * The round of the tournament the game was played in.
+     */
+    private final int round;
+    /**
+     * The rule set of the game.
+     */
+    private final String ruleSet;
+    /**
+     * The entrant playing first.
+     */
+    private final int playerOne;
+    /**
+     * The entrant playing second.
+     */
+    private final int playerTwo;
+    /**
+     * The winning seat (1 or 2), or 0 for a draw.
+     */
+    private final int winner;
+    /**
+     * The final stones of player one.
+     */
+    private final int storeOne;
+    /**
+     * The final stones of player two.
+     */
+    private final int storeTwo;
+    /**
+     * The number of moves played.
+     */
+    private final int moves;
+
+    /**
+     * Creates the result of a game.
+     *
+     * @param gameRound     The round the game was played in.
+     * @param rules         The rule set of the game.
+     * @param first         The index of the entrant playing first.
+     * @param second        The index of the entrant playing second.
+     * @param winningSeat   The winning seat (1 or 2), or 0 for a draw.
+     * @param firstStones   The final stones of player one.
+     * @param secondStones  The final stones of player two.
+     * @param moveCount     The number of moves played.
+     */
+    public GameRecord(final int gameRound, final String rules, final int first, final int second,
+        final int winningSeat, final int firstStones, final int secondStones, final int moveCount) {
+        round = gameRound;
+        ruleSet = rules;
+        playerOne = first;
+        playerTwo = second;
+        winner = winningSeat;
+        storeOne = firstStones;
+        storeTwo = secondStones;
+        moves = moveCount;
+    }
+
+    /**
+     * Gets the round of the tournament the game was played in.
+     *
+     * @return  The round, from 0.
+     */
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * Gets the rule set of the game.
+     *
+     * @return  Simulator.KALAH or Simulator.AYO.
+     */
+    public String getRuleSet() {
+        return ruleSet;
+    }
+
+    /**
+     * Gets the entrant who played a seat.
+     *
+     * @param seat  The seat (1 or 2).
+     * @return  The index of the entrant in the tournament.
+     */
+    public int getEntrant(final int seat) {
+        return seat == 1 ? playerOne : playerTwo;
+    }
+
+    /**
+     * Gets the winning seat.
+     *
+     * @return  1 or 2, or 0 for a draw.
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Gets the final stones of a seat.
+     *
+     * @param seat  The seat (1 or 2).
+     * @return  The stones in the seat's store at the end.
+     */
+    public int getStoreCount(final int seat) {
+        return seat == 1 ? storeOne : storeTwo;
+    }
+
+    /**
+     * Gets the number of moves played.
+     *
+     * @return  The game length.
+     */
+    public int getMoves() {
+        return moves;
+    }
+
+    /**
+     * Gets the points a seat earned: 1 for a win, 0.5 for a draw and 0 for a loss.
+     *
+     * @param seat  The seat (1 or 2).
+     * @return  The points.
+     */
+    public double getPoints(final int seat) {
+        return winner == 0 ? 0.5 : winner == seat ? 1 : 0;
+    }
+
+    @Override
+    public String toString() {
+        return ruleSet + " round " + round + ": " + playerOne + " vs " + playerTwo + " "
+            + storeOne + "-" + storeTwo + " in " + moves + " moves";
+    }
+}
@@ -0,0 +1,45 @@
+package sim;
+
+import mancala.CompactBoard;
+import mancala.GameRules;
+import mancala.MancalaGame;
+
+/**
+ * A policy that plays the move gaining the most stones for the player's store
+ * over their opponent's right away, preferring a move that earns an extra turn
+ * when two gain the same, and the lowest pit after that.
+ */
+public class GreedyPolicy implements MovePolicy {
+
+    /**
+     * The board each move is tried on, reused between moves.
+     */
+    private final CompactBoard trial = new CompactBoard();
+
+    @Override
+    public int chooseMove(final MancalaGame game) {
+        final CompactBoard board = game.toCompactBoard();
+        final int player = game.getCurrPlayerNum();
+        final int opponent = player == 1 ? 2 : 1;
+        int bestPit = -1;
+        int bestValue = Integer.MIN_VALUE;
+        for (int moves = GameRules.legalMoves(board, player); moves != 0; moves &= moves - 1) {
+            final int pit = Integer.numberOfTrailingZeros(moves);
+            trial.copyFrom(board);
+            final int next = game.simulateMove(trial, pit, player);
+            final int gain = trial.getStoreCount(player) - trial.getStoreCount(opponent);
+            // doubled so that an extra turn only breaks ties
+            final int value = 2 * gain + (next == player ? 1 : 0);
+            if (value > bestValue) {
+                bestValue = value;
+                bestPit = pit;
+            }
+        }
+        return bestPit;
+    }
+
+    @Override
+    public String getName() {
+        return "greedy";
+    }
+}
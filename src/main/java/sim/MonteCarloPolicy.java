@@ -0,0 +1,53 @@
+package sim;
+
+import mancala.MancalaGame;
+import search.MonteCarloSearch;
+import search.SearchLimits;
+
+/**
+ * A policy that plays the move found by a Monte Carlo tree search with a fixed
+ * number of playouts.
+ */
+public class MonteCarloPolicy implements MovePolicy {
+
+    /**
+     * The most nodes any policy's arena holds.
+     */
+    private static final int MAX_CAPACITY = 1 << 20;
+
+    /**
+     * The search, which keeps its arena between moves.
+     */
+    private final MonteCarloSearch search;
+    /**
+     * The limits of each search.
+     */
+    private final SearchLimits limits;
+    /**
+     * The number of playouts of each search.
+     */
+    private final int playouts;
+
+    /**
+     * Creates a policy running a number of playouts for each move.
+     *
+     * @param playoutCount  The number of playouts of each search.
+     * @param seed          The seed of the random playouts.
+     */
+    public MonteCarloPolicy(final int playoutCount, final long seed) {
+        // each playout adds the children of at most one node
+        search = new MonteCarloSearch((int) Math.min(MAX_CAPACITY, 13L * playoutCount + 13), seed);
+        limits = new SearchLimits(1, playoutCount, Long.MAX_VALUE);
+        playouts = playoutCount;
+    }
+
+    @Override
+    public int chooseMove(final MancalaGame game) {
+        return search.search(game.copyRules(), limits).getBestPit();
+    }
+
+    @Override
+    public String getName() {
+        return "mcts-" + playouts;
+    }
+}
@@ -0,0 +1,24 @@
+package sim;
+
+import mancala.MancalaGame;
+
+/**
+ * A way of choosing moves for one seat of a simulated game.
+ */
+public interface MovePolicy {
+
+    /**
+     * Chooses a move for the player to move. The game must not be changed.
+     *
+     * @param game  The game being played, which is not over.
+     * @return  One of the current player's non-empty pits.
+     */
+    int chooseMove(MancalaGame game);
+
+    /**
+     * Gets a short name for the policy, used in reports.
+     *
+     * @return  The name of the policy.
+     */
+    String getName();
+}
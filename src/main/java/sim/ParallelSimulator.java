@@ -0,0 +1,152 @@
+package sim;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongFunction;
+
+import mancala.MancalaDataStructure;
+
+/**
+ * A headless runner that plays games on every core of a ForkJoinPool. The games
+ * are split into fixed shards; each shard makes its own policies and games, so
+ * workers share no mutable state, and fills its own report. Reports are added
+ * together as the fork-join tasks are joined, so no lock or shared counter is
+ * touched while games are played.
+ *
+ * Each shard seeds its policies from the simulator seed and its first game, so
+ * the report is the same whatever the number of threads.
+ */
+public class ParallelSimulator {
+
+    /**
+     * The number of games a task plays itself instead of splitting further.
+     */
+    private static final int SHARD_GAMES = 64;
+
+    /**
+     * The rule set to play.
+     */
+    private final String ruleSet;
+    /**
+     * The number of stones in each pit at the start of every game.
+     */
+    private final int startStones;
+    /**
+     * Makes player one's policy for a shard from a seed.
+     */
+    private final LongFunction<MovePolicy> policyOne;
+    /**
+     * Makes player two's policy for a shard from a seed.
+     */
+    private final LongFunction<MovePolicy> policyTwo;
+    /**
+     * The seed the shard seeds are made from.
+     */
+    private final long seed;
+
+    /**
+     * Creates a parallel simulator with the default number of start stones.
+     *
+     * @param rules     The rule set to play, Simulator.KALAH or Simulator.AYO.
+     * @param playerOne Makes player one's policy from a seed.
+     * @param playerTwo Makes player two's policy from a seed.
+     * @param baseSeed  The seed the shard seeds are made from.
+     */
+    public ParallelSimulator(final String rules, final LongFunction<MovePolicy> playerOne,
+        final LongFunction<MovePolicy> playerTwo, final long baseSeed) {
+        this(rules, MancalaDataStructure.DEFAULT_START_STONES, playerOne, playerTwo, baseSeed);
+    }
+
+    /**
+     * Creates a parallel simulator.
+     *
+     * @param rules     The rule set to play, Simulator.KALAH or Simulator.AYO.
+     * @param stones    The number of stones in each pit at the start.
+     * @param playerOne Makes player one's policy from a seed.
+     * @param playerTwo Makes player two's policy from a seed.
+     * @param baseSeed  The seed the shard seeds are made from.
+     */
+    public ParallelSimulator(final String rules, final int stones, final LongFunction<MovePolicy> playerOne,
+        final LongFunction<MovePolicy> playerTwo, final long baseSeed) {
+        Simulator.checkRuleSet(rules);
+        ruleSet = rules;
+        startStones = stones;
+        policyOne = playerOne;
+        policyTwo = playerTwo;
+        seed = baseSeed;
+    }
+
+    /**
+     * Plays a number of games on a pool of threads and reports on them.
+     *
+     * @param games     The number of games to play.
+     * @param threads   The number of threads to play on (at least 1).
+     * @return  The report of all the games.
+     */
+    public SimulationReport run(final int games, final int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread Count Must Be At Least 1");
+        }
+        final ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            final long start = System.nanoTime();
+            final SimulationReport report = pool.invoke(new Shard(0, games));
+            report.addElapsed(System.nanoTime() - start);
+            return report;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays a number of games on one thread per core and reports on them.
+     *
+     * @param games The number of games to play.
+     * @return  The report of all the games.
+     */
+    public SimulationReport run(final int games) {
+        return run(games, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * A task playing a range of games, splitting it in two while it is large.
+     */
+    private final class Shard extends RecursiveTask<SimulationReport> {
+        private static final long serialVersionUID = 2417066212964351237L;
+
+        /**
+         * The number of the first game of the range.
+         */
+        private final int from;
+        /**
+         * The number after the last game of the range.
+         */
+        private final int to;
+
+        /*creates a task for the games from first up to but not including last*/
+        private Shard(final int first, final int last) {
+            from = first;
+            to = last;
+        }
+
+        @Override
+        protected SimulationReport compute() {
+            if (to - from <= SHARD_GAMES) {
+                final long shardSeed = seed * 0x9E3779B97F4A7C15L + from;
+                final Simulator simulator = new Simulator(ruleSet, startStones,
+                    policyOne.apply(2 * shardSeed), policyTwo.apply(2 * shardSeed + 1));
+                final SimulationReport report = simulator.newReport();
+                for (int i = from; i < to; i++) {
+                    simulator.playGame(report);
+                }
+                return report;
+            }
+            final int middle = (from + to) >>> 1;
+            final Shard right = new Shard(middle, to);
+            right.fork();
+            final SimulationReport report = new Shard(from, middle).compute();
+            report.merge(right.join());
+            return report;
+        }
+    }
+}
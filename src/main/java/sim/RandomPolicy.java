@@ -0,0 +1,49 @@
+package sim;
+
+import java.util.SplittableRandom;
+
+import mancala.MancalaGame;
+
+/**
+ * A policy that plays one of the current player's non-empty pits at random.
+ */
+public class RandomPolicy implements MovePolicy {
+
+    /**
+     * The source of random moves.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * Creates a random policy.
+     *
+     * @param seed  The seed of the random moves.
+     */
+    public RandomPolicy(final long seed) {
+        random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public int chooseMove(final MancalaGame game) {
+        final int start = game.currPlayerStartPit();
+        final int end = game.currPlayerEndPit();
+        int choices = 0;
+        for (int pit = start; pit <= end; pit++) {
+            if (game.getNumStones(pit) > 0) {
+                choices++;
+            }
+        }
+        int skip = random.nextInt(choices);
+        for (int pit = start; pit <= end; pit++) {
+            if (game.getNumStones(pit) > 0 && skip-- == 0) {
+                return pit;
+            }
+        }
+        throw new RuntimeException("No Legal Move");
+    }
+
+    @Override
+    public String getName() {
+        return "random";
+    }
+}
@@ -0,0 +1,46 @@
+package sim;
+
+import mancala.MancalaGame;
+import search.AlphaBetaSearch;
+import search.SearchLimits;
+import search.TranspositionTable;
+
+/**
+ * A policy that plays the move found by an alpha-beta search.
+ */
+public class SearchPolicy implements MovePolicy {
+
+    /**
+     * The size in megabytes of each policy's transposition table, kept small so
+     * that many policies can play at once.
+     */
+    private static final int TABLE_MEGABYTES = 4;
+
+    /**
+     * The search, which keeps its table between moves.
+     */
+    private final AlphaBetaSearch search = new AlphaBetaSearch(new TranspositionTable(TABLE_MEGABYTES));
+    /**
+     * The limits of each search.
+     */
+    private final SearchLimits limits;
+
+    /**
+     * Creates a policy searching each move with the given limits.
+     *
+     * @param searchLimits  The limits of each search.
+     */
+    public SearchPolicy(final SearchLimits searchLimits) {
+        limits = searchLimits;
+    }
+
+    @Override
+    public int chooseMove(final MancalaGame game) {
+        return search.search(game.copyRules(), limits).getBestPit();
+    }
+
+    @Override
+    public String getName() {
+        return "alphabeta-" + limits.getMaxDepth();
+    }
+}
@@ -0,0 +1,217 @@
+package sim;
+
+import java.util.Locale;
+
+/**
+ * A class used to collect the outcomes of simulated games: who won, how long
+ * each game was and by how many stones player one finished ahead.
+ */
+public class SimulationReport {
+
+    /**
+     * The number of games won by each player, with draws counted at index 0.
+     */
+    private final long[] results = new long[3];
+    /**
+     * The number of games ending with each final margin for player one, offset by maxMargin.
+     */
+    private final long[] margins;
+    /**
+     * The largest margin a game can end with.
+     */
+    private final int maxMargin;
+    /**
+     * The number of games recorded.
+     */
+    private long games;
+    /**
+     * The total number of moves of all games.
+     */
+    private long totalMoves;
+    /**
+     * The fewest moves of any game.
+     */
+    private int minMoves = Integer.MAX_VALUE;
+    /**
+     * The most moves of any game.
+     */
+    private int maxMoves;
+    /**
+     * The total nanoseconds spent playing the games.
+     */
+    private long elapsedNanos;
+
+    /**
+     * Creates an empty report.
+     *
+     * @param totalStones   The number of stones in play, which bounds the final margin.
+     */
+    public SimulationReport(final int totalStones) {
+        maxMargin = totalStones;
+        margins = new long[2 * totalStones + 1];
+    }
+
+    /**
+     * Records the outcome of one game.
+     *
+     * @param winner    The winning player (1 or 2), or 0 for a draw.
+     * @param margin    Player one's final stones minus player two's.
+     * @param moves     The number of moves played.
+     */
+    void record(final int winner, final int margin, final int moves) {
+        results[winner]++;
+        margins[Math.max(0, Math.min(2 * maxMargin, margin + maxMargin))]++;
+        games++;
+        totalMoves += moves;
+        minMoves = Math.min(minMoves, moves);
+        maxMoves = Math.max(maxMoves, moves);
+    }
+
+    /**
+     * Adds time spent playing games.
+     *
+     * @param nanos The nanoseconds spent.
+     */
+    void addElapsed(final long nanos) {
+        elapsedNanos += nanos;
+    }
+
+    /**
+     * Adds the games of another report to this one.
+     *
+     * @param other A report of games with the same number of stones in play.
+     */
+    void merge(final SimulationReport other) {
+        if (other.maxMargin != maxMargin) {
+            throw new IllegalArgumentException("Reports Have Different Stone Counts");
+        }
+        for (int i = 0; i < results.length; i++) {
+            results[i] += other.results[i];
+        }
+        for (int i = 0; i < margins.length; i++) {
+            margins[i] += other.margins[i];
+        }
+        games += other.games;
+        totalMoves += other.totalMoves;
+        minMoves = Math.min(minMoves, other.minMoves);
+        maxMoves = Math.max(maxMoves, other.maxMoves);
+    }
+
+    /**
+     * Gets the number of games recorded.
+     *
+     * @return  The number of games.
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of games a player won.
+     *
+     * @param playerNum The player (1 or 2), or 0 for draws.
+     * @return  The number of wins.
+     */
+    public long getWins(final int playerNum) {
+        return results[playerNum];
+    }
+
+    /**
+     * Gets the share of games a player won.
+     *
+     * @param playerNum The player (1 or 2), or 0 for draws.
+     * @return  The win rate, from 0 to 1.
+     */
+    public double getWinRate(final int playerNum) {
+        return games == 0 ? 0 : (double) results[playerNum] / games;
+    }
+
+    /**
+     * Gets the average number of moves of a game.
+     *
+     * @return  The average game length.
+     */
+    public double getAverageMoves() {
+        return games == 0 ? 0 : (double) totalMoves / games;
+    }
+
+    /**
+     * Gets the fewest moves of any game.
+     *
+     * @return  The shortest game length, or 0 if no game was recorded.
+     */
+    public int getMinMoves() {
+        return games == 0 ? 0 : minMoves;
+    }
+
+    /**
+     * Gets the most moves of any game.
+     *
+     * @return  The longest game length.
+     */
+    public int getMaxMoves() {
+        return maxMoves;
+    }
+
+    /**
+     * Gets the number of games played per second.
+     *
+     * @return  The throughput of the simulation.
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Gets the number of games that ended with a final margin for player one.
+     *
+     * @param margin    Player one's final stones minus player two's.
+     * @return  The number of games.
+     */
+    public long getMarginCount(final int margin) {
+        return Math.abs(margin) > maxMargin ? 0 : margins[margin + maxMargin];
+    }
+
+    /**
+     * Gets the average final margin for player one.
+     *
+     * @return  The mean of player one's final stones minus player two's.
+     */
+    public double getAverageMargin() {
+        long total = 0;
+        for (int i = 0; i < margins.length; i++) {
+            total += margins[i] * (i - maxMargin);
+        }
+        return games == 0 ? 0 : (double) total / games;
+    }
+
+    /**
+     * Gets a percentile of the final margin for player one.
+     *
+     * @param percent   The percentile, from 0 to 100.
+     * @return  The smallest margin at least that share of games finished at or below.
+     */
+    public int getMarginPercentile(final double percent) {
+        final double target = games * percent / 100;
+        long seen = 0;
+        for (int i = 0; i < margins.length; i++) {
+            seen += margins[i];
+            if (seen > 0 && seen >= target) {
+                return i - maxMargin;
+            }
+        }
+        return maxMargin;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "Games: %d in %.2fs (%.1f games/sec)%n"
+            + "Player one wins: %.1f%%  Player two wins: %.1f%%  Draws: %.1f%%%n"
+            + "Average length: %.1f moves (min %d, max %d)%n"
+            + "Final margin for player one: mean %.2f, p10 %d, median %d, p90 %d",
+            games, elapsedNanos / 1e9, getGamesPerSecond(),
+            100 * getWinRate(1), 100 * getWinRate(2), 100 * getWinRate(0),
+            getAverageMoves(), getMinMoves(), getMaxMoves(),
+            getAverageMargin(), getMarginPercentile(10), getMarginPercentile(50), getMarginPercentile(90));
+    }
+}
@@ -0,0 +1,191 @@
+package sim;
+
+import mancala.InvalidMoveException;
+import mancala.MancalaDataStructure;
+import mancala.MancalaGame;
+import mancala.Player;
+
+/**
+ * A headless runner that plays many games of Kalah or Ayo between two move
+ * policies through MancalaGame, with no user interface, and reports how they went.
+ */
+public class Simulator {
+
+    /**
+     * The name of the Kalah rule set.
+     */
+    public static final String KALAH = "kalah";
+    /**
+     * The name of the Ayo rule set.
+     */
+    public static final String AYO = "ayo";
+
+    /**
+     * Whether the games are played with the Ayo rule set rather than Kalah.
+     */
+    private final boolean isAyo;
+    /**
+     * The number of stones in each pit at the start of every game.
+     */
+    private final int startStones;
+    /**
+     * The policy playing for player one.
+     */
+    private final MovePolicy policyOne;
+    /**
+     * The policy playing for player two.
+     */
+    private final MovePolicy policyTwo;
+
+    /**
+     * Creates a simulator.
+     *
+     * @param ruleSet   The rule set to play, KALAH or AYO.
+     * @param playerOne The policy playing for player one.
+     * @param playerTwo The policy playing for player two.
+     */
+    public Simulator(final String ruleSet, final MovePolicy playerOne, final MovePolicy playerTwo) {
+        this(ruleSet, MancalaDataStructure.DEFAULT_START_STONES, playerOne, playerTwo);
+    }
+
+    /**
+     * Creates a simulator for games with a number of stones in every pit.
+     *
+     * @param ruleSet   The rule set to play, KALAH or AYO.
+     * @param stones    The number of stones in each pit at the start.
+     * @param playerOne The policy playing for player one.
+     * @param playerTwo The policy playing for player two.
+     */
+    public Simulator(final String ruleSet, final int stones, final MovePolicy playerOne,
+        final MovePolicy playerTwo) {
+        checkRuleSet(ruleSet);
+        isAyo = AYO.equals(ruleSet);
+        startStones = stones;
+        policyOne = playerOne;
+        policyTwo = playerTwo;
+    }
+
+    /**
+     * Checks that a rule set name is KALAH or AYO.
+     *
+     * @param ruleSet   The name to check.
+     */
+    static void checkRuleSet(final String ruleSet) {
+        if (!KALAH.equals(ruleSet) && !AYO.equals(ruleSet)) {
+            throw new IllegalArgumentException("Unknown Rule Set: " + ruleSet);
+        }
+    }
+
+    /**
+     * Plays a number of games and reports on them.
+     *
+     * @param games The number of games to play.
+     * @return  The report of the games.
+     */
+    public SimulationReport run(final int games) {
+        final SimulationReport report = newReport();
+        final long start = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            playGame(report);
+        }
+        report.addElapsed(System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * Plays one game to the end and records it.
+     *
+     * @param report    The report to record the game in.
+     */
+    void playGame(final SimulationReport report) {
+        final MancalaGame game = newGame(isAyo ? AYO : KALAH, startStones,
+            new Player(policyOne.getName()), new Player(policyTwo.getName()));
+        final int moves = playToEnd(game, policyOne, policyTwo);
+        final int margin = game.getStoreCount(1) - game.getStoreCount(2);
+        report.record(margin > 0 ? 1 : margin < 0 ? 2 : 0, margin, moves);
+    }
+
+    /**
+     * Plays a game to the end, leaving its stones in the stores.
+     *
+     * @param game      The game to play.
+     * @param playerOne The policy playing for player one.
+     * @param playerTwo The policy playing for player two.
+     * @return  The number of moves played.
+     */
+    static int playToEnd(final MancalaGame game, final MovePolicy playerOne, final MovePolicy playerTwo) {
+        int moves = 0;
+        while (!game.isGameOver()) {
+            final MovePolicy policy = game.getCurrPlayerNum() == 1 ? playerOne : playerTwo;
+            try {
+                game.move(policy.chooseMove(game));
+            } catch (InvalidMoveException e) {
+                throw new RuntimeException("Policy " + policy.getName() + " Chose An Invalid Move", e);
+            }
+            moves++;
+        }
+        return moves;
+    }
+
+    /**
+     * Makes an empty report sized for the games this simulator plays.
+     *
+     * @return  The report.
+     */
+    SimulationReport newReport() {
+        return new SimulationReport(12 * startStones);
+    }
+
+    /**
+     * Sets up a game with two players.
+     *
+     * @param ruleSet   The rule set to play, KALAH or AYO.
+     * @param stones    The number of stones in each pit at the start.
+     * @param playerOne The first player.
+     * @param playerTwo The second player.
+     * @return  The game, ready for its first move.
+     */
+    static MancalaGame newGame(final String ruleSet, final int stones, final Player playerOne,
+        final Player playerTwo) {
+        final MancalaGame game = new MancalaGame();
+        if (AYO.equals(ruleSet)) {
+            game.startAyoGame(stones);
+        } else {
+            game.startKalahGame(stones);
+        }
+        game.setPlayers(playerOne, playerTwo);
+        return game;
+    }
+
+    /**
+     * Makes a policy from its name.
+     *
+     * @param name  The name of the policy: random or greedy.
+     * @param seed  The seed of a random policy.
+     * @return  The policy.
+     */
+    public static MovePolicy policyFor(final String name, final long seed) {
+        if ("random".equals(name)) {
+            return new RandomPolicy(seed);
+        } else if ("greedy".equals(name)) {
+            return new GreedyPolicy();
+        }
+        throw new IllegalArgumentException("Unknown Policy: " + name);
+    }
+
+    /**
+     * Runs a simulation from the command line and prints its report.
+     *
+     * @param args  The rule set, number of games, the two policies and a seed;
+     *              defaults to "kalah 1000 random random 1".
+     */
+    public static void main(final String[] args) {
+        final String ruleSet = args.length > 0 ? args[0] : KALAH;
+        final int games = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        final long seed = args.length > 4 ? Long.parseLong(args[4]) : 1;
+        final MovePolicy one = policyFor(args.length > 2 ? args[2] : "random", seed);
+        final MovePolicy two = policyFor(args.length > 3 ? args[3] : "random", seed + 1);
+        System.out.println(ruleSet + ": " + one.getName() + " vs " + two.getName());
+        System.out.println(new Simulator(ruleSet, one, two).run(games));
+    }
+}
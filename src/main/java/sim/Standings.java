@@ -0,0 +1,275 @@
+package sim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The standings of a tournament: points scored by each entrant, with Elo and
+ * Glicko ratings worked out from every game played so far.
+ *
+ * Ratings are computed from the games in schedule order, by round and then by
+ * pairing, rather than the order games happened to finish in, so a tournament
+ * reaches the same ratings whatever the number of threads. Each round is one
+ * Glicko rating period.
+ */
+public class Standings {
+
+    /**
+     * The rating every entrant starts from.
+     */
+    public static final double START_RATING = 1500;
+    /**
+     * How far one Elo game can move a rating.
+     */
+    public static final double ELO_K = 16;
+    /**
+     * The Glicko rating deviation of an entrant with no games.
+     */
+    public static final double START_DEVIATION = 350;
+    /**
+     * The normal quantile of a 95% confidence interval.
+     */
+    public static final double Z_95 = 1.959964;
+
+    /*the Glicko scale constant, ln(10) / 400*/
+    private static final double Q = Math.log(10) / 400;
+
+    /**
+     * The entrant names, in tournament order.
+     */
+    private final String[] names;
+    /**
+     * Every game recorded.
+     */
+    private final List<GameRecord> records = new ArrayList<>();
+    /**
+     * The games played by each entrant.
+     */
+    private final int[] games;
+    /**
+     * The games won by each entrant.
+     */
+    private final int[] wins;
+    /**
+     * The games drawn by each entrant.
+     */
+    private final int[] draws;
+
+    /**
+     * Creates empty standings.
+     *
+     * @param entrantNames  The entrant names, in tournament order.
+     */
+    public Standings(final List<String> entrantNames) {
+        names = entrantNames.toArray(new String[0]);
+        games = new int[names.length];
+        wins = new int[names.length];
+        draws = new int[names.length];
+    }
+
+    /**
+     * Adds the result of a game.
+     *
+     * @param record    The result of the game.
+     */
+    void add(final GameRecord record) {
+        records.add(record);
+        for (int seat = 1; seat <= 2; seat++) {
+            final int entrant = record.getEntrant(seat);
+            games[entrant]++;
+            if (record.getWinner() == seat) {
+                wins[entrant]++;
+            } else if (record.getWinner() == 0) {
+                draws[entrant]++;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of games recorded.
+     *
+     * @return  The number of games.
+     */
+    public int getGames() {
+        return records.size();
+    }
+
+    /**
+     * Gets the number of games an entrant played.
+     *
+     * @param entrant   The index of the entrant.
+     * @return  The number of games.
+     */
+    public int getGames(final int entrant) {
+        return games[entrant];
+    }
+
+    /**
+     * Gets the number of games an entrant won.
+     *
+     * @param entrant   The index of the entrant.
+     * @return  The number of wins.
+     */
+    public int getWins(final int entrant) {
+        return wins[entrant];
+    }
+
+    /**
+     * Gets the number of games an entrant drew.
+     *
+     * @param entrant   The index of the entrant.
+     * @return  The number of draws.
+     */
+    public int getDraws(final int entrant) {
+        return draws[entrant];
+    }
+
+    /**
+     * Gets the points an entrant scored: 1 for a win and 0.5 for a draw.
+     *
+     * @param entrant   The index of the entrant.
+     * @return  The points.
+     */
+    public double getPoints(final int entrant) {
+        return wins[entrant] + draws[entrant] / 2.0;
+    }
+
+    /**
+     * Gets the share of the available points an entrant scored.
+     *
+     * @param entrant   The index of the entrant.
+     * @return  The score between 0 and 1, or 0.5 before any games.
+     */
+    public double getScore(final int entrant) {
+        return games[entrant] == 0 ? 0.5 : getPoints(entrant) / games[entrant];
+    }
+
+    /**
+     * Gets half the width of the 95% confidence interval of an entrant's score,
+     * from the spread of its per-game results.
+     *
+     * @param entrant   The index of the entrant.
+     * @return  The margin of error of the score.
+     */
+    public double getScoreError(final int entrant) {
+        final int n = games[entrant];
+        if (n < 2) {
+            return 0.5;
+        }
+        final double mean = getScore(entrant);
+        // each game scores 1, 0.5 or 0
+        final double meanSquare = (wins[entrant] + draws[entrant] / 4.0) / n;
+        final double variance = Math.max(0, meanSquare - mean * mean) * n / (n - 1);
+        return Z_95 * Math.sqrt(variance / n);
+    }
+
+    /**
+     * Works out the Elo rating of every entrant, updating after each game.
+     *
+     * @return  The ratings, indexed by entrant.
+     */
+    public double[] eloRatings() {
+        final double[] ratings = new double[names.length];
+        Arrays.fill(ratings, START_RATING);
+        for (GameRecord record : scheduleOrder()) {
+            final int one = record.getEntrant(1);
+            final int two = record.getEntrant(2);
+            final double change = ELO_K * (record.getPoints(1) - expected(ratings[one] - ratings[two], 1));
+            ratings[one] += change;
+            ratings[two] -= change;
+        }
+        return ratings;
+    }
+
+    /**
+     * Works out the Glicko rating and rating deviation of every entrant, with each
+     * tournament round as one rating period.
+     *
+     * @return  Two arrays indexed by entrant: the ratings, then the deviations.
+     */
+    public double[][] glickoRatings() {
+        final int count = names.length;
+        final double[] ratings = new double[count];
+        final double[] deviations = new double[count];
+        Arrays.fill(ratings, START_RATING);
+        Arrays.fill(deviations, START_DEVIATION);
+        final List<GameRecord> ordered = scheduleOrder();
+        final double[] variance = new double[count];
+        final double[] gain = new double[count];
+        int start = 0;
+        while (start < ordered.size()) {
+            final int round = ordered.get(start).getRound();
+            int end = start;
+            while (end < ordered.size() && ordered.get(end).getRound() == round) {
+                end++;
+            }
+            Arrays.fill(variance, 0);
+            Arrays.fill(gain, 0);
+            for (GameRecord record : ordered.subList(start, end)) {
+                for (int seat = 1; seat <= 2; seat++) {
+                    final int self = record.getEntrant(seat);
+                    final int other = record.getEntrant(3 - seat);
+                    final double g = g(deviations[other]);
+                    final double e = expected(ratings[self] - ratings[other], g);
+                    variance[self] += g * g * e * (1 - e);
+                    gain[self] += g * (record.getPoints(seat) - e);
+                }
+            }
+            // every entrant's update uses the ratings from before the period
+            for (int i = 0; i < count; i++) {
+                if (variance[i] > 0) {
+                    final double precision = 1 / (deviations[i] * deviations[i]) + Q * Q * variance[i];
+                    ratings[i] += Q / precision * gain[i];
+                    deviations[i] = Math.sqrt(1 / precision);
+                }
+            }
+            start = end;
+        }
+        return new double[][] {ratings, deviations};
+    }
+
+    /*helper method to get the expected score of a rating difference*/
+    private static double expected(final double difference, final double g) {
+        return 1 / (1 + Math.pow(10, -g * difference / 400));
+    }
+
+    /*helper method to get the Glicko weight of an opponent's deviation*/
+    private static double g(final double deviation) {
+        return 1 / Math.sqrt(1 + 3 * Q * Q * deviation * deviation / (Math.PI * Math.PI));
+    }
+
+    /*helper method to sort the games by round, rule set and seats*/
+    private List<GameRecord> scheduleOrder() {
+        final List<GameRecord> ordered = new ArrayList<>(records);
+        ordered.sort(Comparator.comparingInt(GameRecord::getRound)
+            .thenComparing(GameRecord::getRuleSet)
+            .thenComparingInt(r -> Math.min(r.getEntrant(1), r.getEntrant(2)))
+            .thenComparingInt(r -> Math.max(r.getEntrant(1), r.getEntrant(2)))
+            .thenComparingInt(r -> r.getEntrant(1)));
+        return ordered;
+    }
+
+    @Override
+    public String toString() {
+        final double[] elo = eloRatings();
+        final double[][] glicko = glickoRatings();
+        final Integer[] order = new Integer[names.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble((Integer i) -> -glicko[0][i]));
+        final StringBuilder table = new StringBuilder(String.format(Locale.ROOT,
+            "%-16s %6s %6s %6s %6s %15s %6s %14s%n",
+            "entrant", "games", "wins", "draws", "score", "95% ci", "elo", "glicko"));
+        for (int i : order) {
+            table.append(String.format(Locale.ROOT, "%-16s %6d %6d %6d %6.3f %7.3f-%-7.3f %6.0f %6.0f +/- %3.0f%n",
+                names[i], games[i], wins[i], draws[i], getScore(i),
+                Math.max(0, getScore(i) - getScoreError(i)), Math.min(1, getScore(i) + getScoreError(i)),
+                elo[i], glicko[0][i], Z_95 * glicko[1][i]));
+        }
+        return table.toString();
+    }
+}
@@ -0,0 +1,208 @@
+package sim;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import mancala.GameNotOverException;
+import mancala.MancalaDataStructure;
+import mancala.MancalaGame;
+import mancala.Player;
+
+/**
+ * A round-robin tournament between move policies over one or more rule sets.
+ *
+ * Every round, each pair of entrants plays two games under each rule set, once
+ * from each side, so neither gains from moving first. The game pairs run on a
+ * fixed pool of threads; each makes fresh policies, so games share no mutable
+ * state. Results are handed to a listener on the calling thread as games
+ * finish, and the standings they build are independent of the finishing order.
+ */
+public class Tournament {
+
+    /**
+     * The entrants, in the order they are indexed in results.
+     */
+    private final List<Entrant> entrants;
+    /**
+     * The rule sets each pairing plays.
+     */
+    private final List<String> ruleSets;
+    /**
+     * The number of stones in each pit at the start of every game.
+     */
+    private final int startStones;
+    /**
+     * The seed the game seeds are made from.
+     */
+    private final long seed;
+
+    /**
+     * Creates a tournament with the default number of start stones.
+     *
+     * @param players   The entrants, at least two.
+     * @param rules     The rule sets to play, each Simulator.KALAH or Simulator.AYO.
+     * @param baseSeed  The seed the game seeds are made from.
+     */
+    public Tournament(final List<Entrant> players, final List<String> rules, final long baseSeed) {
+        this(players, rules, MancalaDataStructure.DEFAULT_START_STONES, baseSeed);
+    }
+
+    /**
+     * Creates a tournament.
+     *
+     * @param players   The entrants, at least two.
+     * @param rules     The rule sets to play, each Simulator.KALAH or Simulator.AYO.
+     * @param stones    The number of stones in each pit at the start.
+     * @param baseSeed  The seed the game seeds are made from.
+     */
+    public Tournament(final List<Entrant> players, final List<String> rules, final int stones,
+        final long baseSeed) {
+        if (players.size() < 2) {
+            throw new IllegalArgumentException("A Tournament Needs At Least Two Entrants");
+        }
+        for (String ruleSet : rules) {
+            Simulator.checkRuleSet(ruleSet);
+        }
+        entrants = new ArrayList<>(players);
+        ruleSets = new ArrayList<>(rules);
+        startStones = stones;
+        seed = baseSeed;
+    }
+
+    /**
+     * Gets the number of games played in each round.
+     *
+     * @return  Two games for each pair of entrants under each rule set.
+     */
+    public int getGamesPerRound() {
+        return entrants.size() * (entrants.size() - 1) * ruleSets.size();
+    }
+
+    /**
+     * Plays the tournament on a pool of threads.
+     *
+     * @param rounds    The number of rounds to play.
+     * @param threads   The number of threads to play on (at least 1).
+     * @param listener  Receives each result as it comes in, or null.
+     * @return  The final standings.
+     */
+    public Standings run(final int rounds, final int threads, final TournamentListener listener) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread Count Must Be At Least 1");
+        }
+        final List<String> names = new ArrayList<>();
+        for (Entrant entrant : entrants) {
+            names.add(entrant.getName());
+        }
+        final Standings standings = new Standings(names);
+        final ExecutorService pool = Executors.newFixedThreadPool(threads, task -> {
+            final Thread thread = new Thread(task, "tournament");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final CompletionService<List<GameRecord>> results = new ExecutorCompletionService<>(pool);
+            int pending = 0;
+            for (int round = 0; round < rounds; round++) {
+                for (String ruleSet : ruleSets) {
+                    for (int one = 0; one < entrants.size(); one++) {
+                        for (int two = one + 1; two < entrants.size(); two++) {
+                            final int r = round;
+                            final int first = one;
+                            final int second = two;
+                            results.submit(() -> playPair(r, ruleSet, first, second));
+                            pending++;
+                        }
+                    }
+                }
+            }
+            for (; pending > 0; pending--) {
+                for (GameRecord record : results.take().get()) {
+                    standings.add(record);
+                    if (listener != null) {
+                        listener.gamePlayed(record, standings);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Tournament Interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Tournament Game Failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return standings;
+    }
+
+    /**
+     * Plays the tournament on one thread per core.
+     *
+     * @param rounds    The number of rounds to play.
+     * @param listener  Receives each result as it comes in, or null.
+     * @return  The final standings.
+     */
+    public Standings run(final int rounds, final TournamentListener listener) {
+        return run(rounds, Runtime.getRuntime().availableProcessors(), listener);
+    }
+
+    /*helper method to play a pairing from both sides, seeded by its place in the schedule*/
+    private List<GameRecord> playPair(final int round, final String ruleSet, final int one, final int two) {
+        long pairSeed = seed;
+        pairSeed = pairSeed * 0x9E3779B97F4A7C15L + round;
+        pairSeed = pairSeed * 0x9E3779B97F4A7C15L + ruleSet.hashCode();
+        pairSeed = pairSeed * 0x9E3779B97F4A7C15L + one * entrants.size() + two;
+        final List<GameRecord> records = new ArrayList<>(2);
+        records.add(playGame(round, ruleSet, one, two, 4 * pairSeed));
+        records.add(playGame(round, ruleSet, two, one, 4 * pairSeed + 2));
+        return Collections.unmodifiableList(records);
+    }
+
+    /*helper method to play one game and record how it ended*/
+    private GameRecord playGame(final int round, final String ruleSet, final int one, final int two,
+        final long gameSeed) {
+        final Player playerOne = new Player(entrants.get(one).getName());
+        final Player playerTwo = new Player(entrants.get(two).getName());
+        final MancalaGame game = Simulator.newGame(ruleSet, startStones, playerOne, playerTwo);
+        final int moves = Simulator.playToEnd(game,
+            entrants.get(one).newPolicy(gameSeed), entrants.get(two).newPolicy(gameSeed + 1));
+        final Player winner;
+        try {
+            winner = game.getWinner();
+        } catch (GameNotOverException e) {
+            throw new RuntimeException("Tournament Game Did Not Finish", e);
+        }
+        final int winningSeat = winner == playerOne ? 1 : winner == playerTwo ? 2 : 0;
+        return new GameRecord(round, ruleSet, one, two, winningSeat,
+            game.getStoreCount(1), game.getStoreCount(2), moves);
+    }
+
+    /**
+     * Plays a tournament of every kind of policy under both rule sets and
+     * prints the standings.
+     *
+     * @param args  Optionally the number of rounds, then the seed.
+     */
+    public static void main(final String[] args) {
+        final int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        final long seed = args.length > 1 ? Long.parseLong(args[1]) : 1;
+        final List<Entrant> entrants = List.of(Entrant.random(), Entrant.greedy(),
+            Entrant.alphaBeta(2), Entrant.alphaBeta(4), Entrant.alphaBeta(6), Entrant.monteCarlo(500));
+        final Tournament tournament = new Tournament(entrants, List.of(Simulator.KALAH, Simulator.AYO), seed);
+        final long start = System.nanoTime();
+        final Standings standings = tournament.run(rounds, (record, table) -> {
+            if (table.getGames() % tournament.getGamesPerRound() == 0) {
+                System.out.println("after " + table.getGames() + " games");
+                System.out.println(table);
+            }
+        });
+        System.out.println("final standings, " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        System.out.println(standings);
+    }
+}
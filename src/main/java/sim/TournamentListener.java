@@ -0,0 +1,16 @@
+package sim;
+
+/**
+ * Receives tournament results as each game finishes.
+ */
+public interface TournamentListener {
+
+    /**
+     * Called on the thread running the tournament after each game, in the order
+     * the games finish.
+     *
+     * @param record    The result of the game.
+     * @param standings The standings including the game.
+     */
+    void gamePlayed(GameRecord record, Standings standings);
+}
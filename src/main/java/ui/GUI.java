@@ -19,17 +19,22 @@ import java.io.File;
 import java.io.Serializable;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
 
 import mancala.GameNotOverException;
 import mancala.InvalidMoveException;
 import mancala.MancalaGame;
+import mancala.OpeningBook;
 import mancala.Player;
-import mancala.Saver;
+import mancala.AsyncSaver;
 import mancala.UserProfile;
 
 public class GUI extends JFrame {
     private MancalaGame game;
-    private Saver saver;
+    private AsyncSaver saver;
     /*For checking the input of the user */
     private InputAnalyzer analyzer;
     private JPanel gameContainer;
@@ -53,13 +58,17 @@ public class GUI extends JFrame {
     private boolean profile1Loaded = false;
     private boolean profile2Loaded = false;    
     private String ruleSet = null;
+    /*The opening books loaded at startup, given to every game */
+    private List<OpeningBook> openingBooks = List.of();
 
     public GUI() {
         super();
         gameContainer = new JPanel();
+        loadOpeningBooks();
         game = new MancalaGame();
+        game.setOpeningBooks(openingBooks);
         analyzer = new InputAnalyzer();
-        saver = new Saver();
+        saver = new AsyncSaver();
         basicSetUp();
         add(makeBoard(), BorderLayout.CENTER);
         add(makeUserInfo(), BorderLayout.EAST);
@@ -432,6 +441,15 @@ public class GUI extends JFrame {
         fileChooser = new JFileChooser(file.getPath());
     }
 
+    private void loadOpeningBooks() {
+        try {
+            openingBooks = OpeningBook.loadFolder("assets/books");
+        } catch (Exception e) {
+            // the game is still playable without books
+            JOptionPane.showMessageDialog(null, e.getMessage());
+        }
+    }
+
     private File getFileChoice() {
         File selectedFile = null;
         try {
@@ -447,25 +465,35 @@ public class GUI extends JFrame {
     }
 
     private void saveObject(Serializable serializable, String filename) {
-        try {
-            saver.saveObject(serializable, "assets/" + filename);
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(null, e.getMessage());
-        }
+        saver.saveObject(serializable, "assets/" + filename).whenComplete((saved, e) -> {
+            if (e != null) {
+                SwingUtilities.invokeLater(() -> showError(e));
+            }
+        });
     }
 
-    private Serializable loadObject() {
-        Serializable serializable = null;
-        try {
-            File file = getFileChoice();
-            if (file != null) {
-                serializable = saver.loadObject(file.getPath());
-            }
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(null, e.getMessage());
+    /*loads the chosen file off the event thread and hands the object to onLoad on it*/
+    private void loadObject(Consumer<Serializable> onLoad) {
+        File file = getFileChoice();
+        if (file == null) {
+            return;
         }
+        saver.loadObject(file.getPath()).whenComplete((serializable, e) -> SwingUtilities.invokeLater(() -> {
+            if (e != null) {
+                showError(e);
+                return;
+            }
+            try {
+                onLoad.accept(serializable);
+            } catch (Exception ex) {
+                JOptionPane.showMessageDialog(null, ex.getMessage());
+            }
+        }));
+    }
 
-        return serializable;
+    private void showError(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        JOptionPane.showMessageDialog(null, cause.getMessage());
     }
 
     private void saveProfile1() {
@@ -488,43 +516,29 @@ public class GUI extends JFrame {
     }
 
     private void openProfile1() {
-        try {
-            Object o = loadObject();
-            if (o != null) {
-                profile1 = (UserProfile)o;
-                profile1Loaded = true;
-                updateProfileInfo(1);
-                startNewGame();
-            }
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(null, e.getMessage());
-        }
+        loadObject(o -> {
+            profile1 = (UserProfile)o;
+            profile1Loaded = true;
+            updateProfileInfo(1);
+            startNewGame();
+        });
     }
 
     private void openProfile2() {
-        try {
-            Object o = loadObject();
-            if (o != null) {
-                profile2 = (UserProfile)o;
-                profile2Loaded = true;
-                updateProfileInfo(2);
-                startNewGame();
-            }
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(null, e.getMessage());
-        }
+        loadObject(o -> {
+            profile2 = (UserProfile)o;
+            profile2Loaded = true;
+            updateProfileInfo(2);
+            startNewGame();
+        });
     }
 
     private void openGame() {
-        try {
-            Object o = loadObject();
-            if (o != null) {
-                game = (MancalaGame)o;
-                updateBoard();
-            }
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(null, e.getMessage());    
-        }
+        loadObject(o -> {
+            game = (MancalaGame)o;
+            game.setOpeningBooks(openingBooks);
+            updateBoard();
+        });
     }
 
     public static void main(String[] args) {
@@ -1,11 +1,16 @@
 package ui;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import mancala.AsyncSaver;
+import mancala.BoardRenderer;
 import mancala.MancalaGame;
+import mancala.OpeningBook;
 import mancala.Player;
-import mancala.Saver;
 import mancala.GameNotOverException;
 import mancala.InvalidMoveException;
 
@@ -14,15 +19,25 @@ import mancala.InvalidMoveException;
  */
 public class TextUI {
     private Scanner input = new Scanner(System.in);
-    private Saver saver = new Saver();
+    private AsyncSaver saver = new AsyncSaver();
     private MancalaGame game;
     private InputAnalyzer analyzer = new InputAnalyzer();
+    private BoardRenderer renderer = new BoardRenderer();
+    private List<OpeningBook> openingBooks = List.of();
 
     /**
-     * Initializes a new TextUI with a new MancalaGame.
+     * Initializes a new TextUI with a new MancalaGame, loading the opening books
+     * in assets/books if there are any.
      */
     public TextUI() {
+        try {
+            openingBooks = OpeningBook.loadFolder("assets/books");
+        } catch (IOException e) {
+            // the game is still playable without books
+            System.out.println(e.getMessage());
+        }
         game = new MancalaGame();
+        game.setOpeningBooks(openingBooks);
     }
 
     /**
@@ -98,7 +113,8 @@ public class TextUI {
      */
     private void loadGame() throws IOException {
         String getFileName = "Enter the filename to load from >> ";
-        game = (MancalaGame) saver.loadObject(analyzer.promptUser(getFileName));
+        game = (MancalaGame) await(saver.loadObject(analyzer.promptUser(getFileName)));
+        game.setOpeningBooks(openingBooks);
     }
 
     /**
@@ -200,15 +216,34 @@ public class TextUI {
      */
     private void saveGame() throws IOException {
         String filename = analyzer.promptUser("Enter the filename to save the game to >> ");
-        saver.saveObject(game, filename);
+        // the save runs on a daemon thread, so wait for it before exiting
+        await(saver.saveObject(game, filename));
         System.exit(0);
     }
 
+    /**
+     * Waits for a save or load to finish.
+     *
+     * @param pending   The save or load.
+     * @return  Its result.
+     * @throws IOException  If the save or load failed.
+     */
+    private static <T> T await(CompletableFuture<T> pending) throws IOException {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     /**
      * Prints the boaard.
      */
     private void printBoard() {
-        System.out.println(game);
+        System.out.println(renderer.renderGame(game));
     } 
 
     /**
@@ -0,0 +1,105 @@
+package mancala;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static mancala.TestGames.newGame;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncSaverTest {
+
+    @TempDir
+    Path folder;
+
+    /*a Saver whose writes wait until released and are counted*/
+    private static class SlowSaver extends Saver {
+        private static final long serialVersionUID = 1L;
+        private final transient CountDownLatch started = new CountDownLatch(1);
+        private final transient CountDownLatch release = new CountDownLatch(1);
+        private final transient AtomicInteger writes = new AtomicInteger();
+
+        @Override
+        void writeFile(final byte[] data, final String filename) throws IOException {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writes.incrementAndGet();
+            super.writeFile(data, filename);
+        }
+    }
+
+    @Test
+    public void testSaveObject_CoalescesWaitingSaves() throws Exception {
+        SlowSaver slow = new SlowSaver();
+        String filename = folder.resolve("game").toString();
+        MancalaGame game = newGame(false, 4);
+        AsyncSaver saver = new AsyncSaver(slow, 1, 4);
+        try {
+            List<CompletableFuture<Void>> saves = new ArrayList<>();
+            for (int pit = 1; pit <= 3; pit++) {
+                saves.add(saver.saveObject(game, filename));
+                game.move(game.getCurrPlayerNum() == 1 ? 7 - pit : 14 - pit);
+                slow.started.await();
+            }
+            String expected = game.toString();
+            saves.add(saver.saveObject(game, filename));
+            game.move(game.getCurrPlayerNum() == 1 ? 1 : 7);
+            CompletableFuture<Serializable> loaded = saver.loadObject(filename);
+            assertFalse(loaded.isDone());
+
+            slow.release.countDown();
+            for (CompletableFuture<Void> save : saves) {
+                save.get();
+            }
+            // the first save was already being written, the other three became one write
+            assertEquals(2, slow.writes.get());
+            assertEquals(expected, loaded.get().toString());
+            assertTrue(saver.verify(filename).get());
+        } finally {
+            slow.release.countDown();
+            saver.close();
+        }
+    }
+
+    @Test
+    public void testLoadObject_FailsWithIOException() throws Exception {
+        Path file = folder.resolve("profile");
+        try (AsyncSaver saver = new AsyncSaver()) {
+            saver.saveObject(new UserProfile("Ada"), file.toString()).get();
+            byte[] data = Files.readAllBytes(file);
+            data[data.length - 1] ^= 1;
+            Files.write(file, data);
+            ExecutionException damaged = assertThrows(ExecutionException.class,
+                () -> saver.loadObject(file.toString()).get());
+            assertTrue(damaged.getCause() instanceof IOException);
+            assertFalse(saver.verify(file.toString()).get());
+
+            ExecutionException unwritable = assertThrows(ExecutionException.class,
+                () -> saver.saveObject(new UserProfile("Bola"), folder.resolve("none/profile").toString()).get());
+            assertTrue(unwritable.getCause() instanceof IOException);
+        }
+    }
+
+    @Test
+    public void testConstructor_RejectsEmptyPool() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncSaver(new Saver(), 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncSaver(new Saver(), 1, 0));
+    }
+}
@@ -3,6 +3,9 @@ package mancala;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 
@@ -274,4 +277,65 @@ public class AyoRulesTest {
         assertEquals(1, dataStructure.getStoreCount(1));
         assertEquals(10, ayoRules.getLastPitIndex());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testMoveStones_WithMultipleLapsAndRelay() throws InvalidMoveException {
+        for (int i = 1; i <= 12; i++) {
+            dataStructure.removeStones(i);
+        }
+        dataStructure.addStones(3, 14);
+        assertEquals(16, ayoRules.distributeStones(3));
+        int[] expected = {1, 1, 0, 2, 0, 2, 1, 1, 1, 1, 1, 1};
+        for (int i = 1; i <= 12; i++) {
+            assertEquals(expected[i - 1], dataStructure.getNumStones(i));
+        }
+        assertEquals(2, dataStructure.getStoreCount(1));
+        assertEquals(0, dataStructure.getStoreCount(2));
+    }
+
+    @Test
+    public void testMoveStones_WithOnlyStoneLandingInStore() throws InvalidMoveException {
+        dataStructure.removeStones(6);
+        dataStructure.addStones(6, 1);
+        assertEquals(1, ayoRules.moveStones(6, 1));
+        assertEquals(0, dataStructure.getNumStones(6));
+        assertEquals(1, dataStructure.getStoreCount(1));
+        assertEquals(2, ayoRules.getCurrentPlayer());
+    }
+
+    @Test
+    public void testMoveStones_CaptureDoesNotCarryOver() throws InvalidMoveException {
+        for (int i = 1; i <= 12; i++) {
+            dataStructure.removeStones(i);
+        }
+        dataStructure.addStones(1, 1);
+        dataStructure.addStones(11, 3);
+        dataStructure.addStones(9, 1);
+        // pit 1 sows into the empty pit 2, capturing pit 11
+        assertEquals(3, ayoRules.moveStones(1, 1));
+        // pit 9 sows into the empty pit 10, which has nothing across from it
+        assertEquals(0, ayoRules.moveStones(9, 2));
+        assertEquals(1, dataStructure.getNumStones(10));
+        assertEquals(3, dataStructure.getNumStones(4) + dataStructure.getStoreCount(1));
+    }
+
+    @Test
+    public void testApplyMoveAndUndoMove_OverWholeGame() throws InvalidMoveException {
+        Deque<UndoRecord> moves = new ArrayDeque<>();
+        Deque<Long> hashes = new ArrayDeque<>();
+        while (ayoRules.generateMoves(ayoRules.getCurrentPlayer()) != 0) {
+            int legal = ayoRules.generateMoves(ayoRules.getCurrentPlayer());
+            hashes.push(ayoRules.getPositionHash());
+            moves.push(ayoRules.applyMove(Integer.numberOfTrailingZeros(legal)));
+        }
+        while (!moves.isEmpty()) {
+            ayoRules.undoMove(moves.pop());
+            assertEquals(hashes.pop(), ayoRules.getPositionHash());
+        }
+        for (int i = 1; i <= 12; i++) {
+            assertEquals(4, dataStructure.getNumStones(i));
+        }
+        assertEquals(0, dataStructure.getStoreCount(1));
+        assertEquals(0, dataStructure.getStoreCount(2));
+    }
+}
@@ -0,0 +1,61 @@
+package mancala;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BoardRendererTest {
+
+    private static final String DASHES = "-".repeat(100);
+
+    private static String legacyBoard(final StoneBoard board) {
+        String two = "\t";
+        for (int i = 12; i >= 7; i--) {
+            two += "[" + i + "]: " + board.getNumStones(i) + "\t";
+        }
+        String one = "\n\t\t\t";
+        for (int i = 1; i <= 6; i++) {
+            one += "[" + i + "]: " + board.getNumStones(i) + "\t";
+        }
+        return "Player Two's Store: " + board.getStoreCount(2) + two + one
+            + "   Player One's Store: " + board.getStoreCount(1);
+    }
+
+    @Test
+    public void testToString_StartingBoardLayout() {
+        MancalaDataStructure board = new MancalaDataStructure();
+        board.setUpPits();
+        assertEquals("Player Two's Store: 0\t[12]: 4\t[11]: 4\t[10]: 4\t[9]: 4\t[8]: 4\t[7]: 4\t\n"
+            + "\t\t\t[1]: 4\t[2]: 4\t[3]: 4\t[4]: 4\t[5]: 4\t[6]: 4\t   Player One's Store: 0",
+            board.toString());
+    }
+
+    @Test
+    public void testRenderGame_MatchesLegacyLayout() throws InvalidMoveException {
+        MancalaGame game = new MancalaGame();
+        game.startAyoGame(12);
+        game.setPlayers(new Player("one"), new Player("two"));
+        game.move(2);
+        game.move(9);
+        String expected = "\t\t\t\t\tMancala\t\t\t\t\t\n" + DASHES + "\n"
+            + legacyBoard(game.getBoard().getDataStructure()) + "\n" + DASHES;
+        BoardRenderer renderer = new BoardRenderer();
+        assertEquals(expected, game.toString());
+        assertEquals(expected, renderer.renderGame(game));
+        // the reused buffer must not carry over the previous render
+        assertEquals(expected, renderer.renderGame(game));
+        assertEquals(legacyBoard(game.getBoard().getDataStructure()),
+            renderer.renderBoard(game.getBoard().getDataStructure()));
+    }
+
+    @Test
+    public void testAppendBoard_RendersCompactBoards() {
+        MancalaDataStructure board = new MancalaDataStructure(6);
+        board.setUpPits();
+        board.addToStore(1, 7);
+        board.removeStones(3);
+        StringBuilder log = new StringBuilder("board: ");
+        BoardRenderer.appendBoard(log, new CompactBoard(board));
+        assertEquals("board: " + board.toString(), log.toString());
+    }
+}
@@ -0,0 +1,130 @@
+package mancala;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+public class CompactBoardTest {
+    private CompactBoard board;
+
+    @BeforeEach
+    public void setUp() {
+        board = new CompactBoard(4);
+    }
+
+    @Test
+    public void testSetUpPits() {
+        for (int i = 1; i <= 12; i++) {
+            assertEquals(4, board.getNumStones(i));
+        }
+        assertEquals(0, board.getStoreCount(1));
+        assertEquals(0, board.getStoreCount(2));
+    }
+
+    @Test
+    public void testAddAndRemoveStones() {
+        assertEquals(9, board.addStones(1, 5));
+        assertEquals(9, board.removeStones(1));
+        assertEquals(0, board.getNumStones(1));
+    }
+
+    @Test
+    public void testAddStones_WithInvalidPitIndex() {
+        assertThrows(RuntimeException.class, () -> board.addStones(13, 1));
+    }
+
+    @Test
+    public void testAddToStore() {
+        board.addToStore(2, 7);
+        assertEquals(7, board.getStoreCount(2));
+        assertEquals(7, board.getSlotCount(13));
+        assertEquals(0, board.getStoreCount(1));
+    }
+
+    @Test
+    public void testAddToStore_WithInvalidPlayerNumber() {
+        assertThrows(RuntimeException.class, () -> board.addToStore(3, 2));
+    }
+
+    @Test
+    public void testIsSideEmpty() {
+        for (int i = 7; i <= 12; i++) {
+            board.removeStones(i);
+        }
+        assertFalse(board.isSideEmpty(1));
+        assertTrue(board.isSideEmpty(2));
+    }
+
+    @Test
+    public void testSlotsMatchDataStructure() {
+        MancalaDataStructure data = new MancalaDataStructure();
+        data.setUpPits();
+        data.addStones(3, 2);
+        data.addToStore(2, 5);
+        CompactBoard copy = new CompactBoard(data);
+        for (int i = 1; i <= 12; i++) {
+            assertEquals(data.getNumStones(i), copy.getNumStones(i));
+        }
+        assertEquals(5, copy.getStoreCount(2));
+    }
+
+    @Test
+    public void testKalahPlayMoveMatchesMoveStones() throws InvalidMoveException {
+        Random random = new Random(7);
+        for (int game = 0; game < 50; game++) {
+            KalahRules rules = new KalahRules();
+            rules.registerPlayers(new Player(), new Player());
+            CompactBoard compact = new CompactBoard(4);
+            int player = 1;
+            while (!rules.isSideEmpty(1) && !rules.isSideEmpty(2)) {
+                int pit = randomMove(random, compact, player);
+                rules.moveStones(pit, player);
+                player = rules.playMove(compact, pit, player);
+                assertEquals(rules.getCurrentPlayer(), player);
+                assertSameBoard(rules.getDataStructure(), compact);
+            }
+        }
+    }
+
+    @Test
+    public void testAyoPlayMoveMatchesMoveStones() throws InvalidMoveException {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 500; trial++) {
+            AyoRules rules = new AyoRules();
+            rules.registerPlayers(new Player(), new Player());
+            for (int i = 1; i <= 12; i++) {
+                rules.getDataStructure().removeStones(i);
+                rules.getDataStructure().addStones(i, random.nextInt(6));
+            }
+            rules.getDataStructure().addStones(1, 1);
+            rules.getDataStructure().addStones(7, 1);
+            CompactBoard compact = new CompactBoard(rules.getDataStructure());
+            int player = 1 + random.nextInt(2);
+            int pit = randomMove(random, compact, player);
+            rules.moveStones(pit, player);
+            assertEquals(rules.getCurrentPlayer(), rules.playMove(compact, pit, player));
+            assertSameBoard(rules.getDataStructure(), compact);
+        }
+    }
+
+    private int randomMove(Random random, CompactBoard compact, int player) {
+        int start = player == 1 ? 1 : 7;
+        int pit;
+        do {
+            pit = start + random.nextInt(6);
+        } while (compact.getNumStones(pit) == 0);
+        return pit;
+    }
+
+    private void assertSameBoard(StoneBoard expected, StoneBoard actual) {
+        for (int i = 0; i < CompactBoard.NUM_SLOTS; i++) {
+            assertEquals(expected.getSlotCount(i), actual.getSlotCount(i));
+        }
+    }
+}
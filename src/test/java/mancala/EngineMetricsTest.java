@@ -0,0 +1,86 @@
+package mancala;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EngineMetricsTest {
+
+    @AfterEach
+    public void tearDown() {
+        EngineMetrics.disable();
+    }
+
+    @Test
+    public void testHistogram_BucketsWithinPrecision() {
+        for (long value = 0; value < 100_000; value += 7) {
+            int bucket = Histogram.bucketOf(value);
+            long highest = Histogram.highestValueIn(bucket);
+            assertTrue(highest >= value);
+            assertTrue(highest - value <= value / 8);
+        }
+        assertEquals(Long.MAX_VALUE, Histogram.highestValueIn(Histogram.bucketOf(Long.MAX_VALUE)));
+        assertEquals(Histogram.BUCKETS - 1, Histogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testHistogram_Percentiles() {
+        Histogram histogram = new Histogram();
+        for (int value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500.5, snapshot.getMean());
+        assertEquals(1000, snapshot.getMax());
+        long median = snapshot.getValueAtPercentile(50);
+        assertTrue(median >= 500 && median <= 500 * 9 / 8);
+        assertEquals(1000, snapshot.getValueAtPercentile(100));
+        histogram.reset();
+        assertEquals(0, histogram.snapshot().getCount());
+    }
+
+    @Test
+    public void testMoveStones_RecordsOnlyWhenEnabled() throws InvalidMoveException {
+        assertNull(EngineMetrics.current());
+        new KalahRules().moveStones(3, 1);
+
+        EngineMetrics metrics = EngineMetrics.enable();
+        assertSame(metrics, EngineMetrics.enable());
+        KalahRules kalah = new KalahRules();
+        // pit 3 sows its last stone into the store, then pit 1 ends in the emptied
+        // pit 5 and captures it with the four stones across in pit 8
+        kalah.moveStones(3, 1);
+        kalah.getDataStructure().removeStones(5);
+        kalah.moveStones(1, 1);
+        assertEquals(2, metrics.getMoves());
+        assertEquals(1, metrics.getExtraTurns());
+        assertEquals(1, metrics.getCaptures());
+        assertEquals(4, metrics.getSowingLength().getMax());
+        assertEquals(5, metrics.getCaptureSize().getMax());
+
+        EngineMetrics.disable();
+        kalah.moveStones(9, 2);
+        assertEquals(2, metrics.getMoves());
+    }
+
+    @Test
+    public void testSnapshot_ExportsRates() throws InvalidMoveException {
+        EngineMetrics metrics = EngineMetrics.enable();
+        metrics.reset();
+        AyoRules ayo = new AyoRules();
+        ayo.moveStones(2, 1);
+        Map<String, Number> values = metrics.snapshot();
+        assertEquals(1L, values.get("mancala.moves"));
+        assertEquals(0.0, values.get("mancala.extra.turn.rate"));
+        assertEquals(1L, values.get("mancala.move.nanos.count"));
+        assertTrue(values.get("mancala.sowing.length.max").longValue() >= 4);
+        assertTrue(metrics.toString().startsWith("mancala.moves 1\n"));
+    }
+}
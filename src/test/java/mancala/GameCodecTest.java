@@ -0,0 +1,89 @@
+package mancala;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static mancala.TestGames.assertSameGame;
+import static mancala.TestGames.playFirstPit;
+import static mancala.TestGames.playedGame;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GameCodecTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    public void testEncode_RoundTripsBothRuleSets() throws Exception {
+        for (boolean ayo : new boolean[] {false, true}) {
+            MancalaGame game = playedGame(ayo, 5, 2);
+            byte[] bytes = GameCodec.encode(game);
+            assertTrue(bytes.length < 64);
+            MancalaGame decoded = GameCodec.decode(bytes);
+            assertSameGame(game, decoded);
+            assertEquals(game.getStoreCount(1), decoded.getStoreCount(1));
+            assertEquals(game.getStoreCount(2), decoded.getStoreCount(2));
+            // the decoded game keeps playing like the original
+            playFirstPit(game);
+            playFirstPit(decoded);
+            assertSameGame(game, decoded);
+        }
+    }
+
+    @Test
+    public void testEncode_GameWithoutRules() throws IOException {
+        MancalaGame decoded = GameCodec.decode(GameCodec.encode(new MancalaGame()));
+        assertNull(decoded.getPlayer(1));
+        assertNull(decoded.getBoard());
+    }
+
+    @Test
+    public void testEncode_StartedGameWithoutPlayers() throws IOException {
+        MancalaGame game = new MancalaGame();
+        game.startKalahGame();
+        MancalaGame decoded = GameCodec.decode(GameCodec.encode(game));
+        assertNull(decoded.getPlayer(1));
+        assertNull(decoded.getPlayer(2));
+        assertEquals(game.getPositionHash(), decoded.getPositionHash());
+        assertEquals(game.getCurrPlayerNum(), decoded.getCurrPlayerNum());
+    }
+
+    @Test
+    public void testDecode_RejectsUnknownData() {
+        byte[] bytes = GameCodec.encode(new MancalaGame());
+        bytes[4] = 9;
+        assertThrows(IOException.class, () -> GameCodec.decode(bytes));
+        assertThrows(IOException.class, () -> GameCodec.decode(new byte[] {1, 2, 3, 4, 5}));
+    }
+
+    @Test
+    public void testSaver_WritesCodecAndReadsLegacy() throws Exception {
+        Saver saver = new Saver();
+        MancalaGame game = playedGame(false, 5, 2);
+
+        String compact = folder.resolve("compact.game").toString();
+        saver.saveObject(game, compact);
+        assertTrue(Files.size(Path.of(compact)) < 80);
+        assertSameGame(game, (MancalaGame) saver.loadObject(compact));
+
+        String legacy = folder.resolve("legacy.game").toString();
+        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(legacy))) {
+            out.writeObject(game);
+        }
+        assertTrue(Files.size(Path.of(legacy)) > Files.size(Path.of(compact)));
+        assertSameGame(game, (MancalaGame) saver.loadObject(legacy));
+
+        String profile = folder.resolve("profile").toString();
+        saver.saveObject(new UserProfile("Ada"), profile);
+        assertEquals("Ada", ((UserProfile) saver.loadObject(profile)).getName());
+    }
+}
@@ -260,4 +260,70 @@ public class GameRulesTest {
         assertEquals(12, gameRules.currPlayerEndPit());
     }
 
+    @Test
+    public void testGetPositionHash_DependsOnPlayerToMove() {
+        gameRules.setPlayer(1);
+        long playerOneHash = gameRules.getPositionHash();
+        gameRules.swapPlayers();
+        assertFalse(playerOneHash == gameRules.getPositionHash());
+        gameRules.swapPlayers();
+        assertEquals(playerOneHash, gameRules.getPositionHash());
+    }
+
+    @Test
+    public void testGenerateMoves() {
+        assertEquals(0b1111110, gameRules.generateMoves(1));
+        assertEquals(0b1111110000000, gameRules.generateMoves(2));
+        dataStructure.removeStones(3);
+        dataStructure.removeStones(12);
+        assertEquals(0b1110110, gameRules.generateMoves(1));
+        assertEquals(0b0111110000000, gameRules.generateMoves(2));
+    }
+
+    @Test
+    public void testGenerateMoves_WithEmptySide() {
+        for (int i = 7; i <= 12; i++) {
+            dataStructure.removeStones(i);
+        }
+        assertEquals(0, gameRules.generateMoves(2));
+        assertThrows(RuntimeException.class, () -> gameRules.generateMoves(3));
+    }
+
+    @Test
+    public void testApplyMoveAndUndoMove() throws InvalidMoveException {
+        long startHash = gameRules.getPositionHash();
+        UndoRecord first = gameRules.applyMove(3);
+        UndoRecord second = gameRules.applyMove(gameRules.getCurrentPlayer() == 1 ? 1 : 9);
+        assertEquals(3, first.getStartPit());
+        assertTrue(first.getChangedSlots() != 0);
+
+        gameRules.undoMove(second);
+        gameRules.undoMove(first);
+        for (int i = 1; i <= 12; i++) {
+            assertEquals(4, gameRules.getNumStones(i));
+        }
+        assertEquals(0, player1.getStoreCount());
+        assertEquals(1, gameRules.getCurrentPlayer());
+        assertEquals(startHash, gameRules.getPositionHash());
+    }
+
+    @Test
+    public void testApplyMove_WithEmptyPit() {
+        dataStructure.removeStones(2);
+        assertThrows(InvalidMoveException.class, () -> gameRules.applyMove(2));
+    }
+
+    @Test
+    public void testCopy() throws InvalidMoveException {
+        gameRules.moveStones(3, 1);
+        GameRules copy = gameRules.copy();
+        assertEquals(gameRules.getPositionHash(), copy.getPositionHash());
+        assertEquals(gameRules.getCurrentPlayer(), copy.getCurrentPlayer());
+
+        copy.moveStones(9, 2);
+        assertEquals(4, gameRules.getNumStones(9));
+        assertEquals(0, copy.getNumStones(9));
+        assertEquals(1, player1.getStoreCount());
+        assertFalse(gameRules.getPositionHash() == copy.getPositionHash());
+    }
 }
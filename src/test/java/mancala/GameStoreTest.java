@@ -0,0 +1,148 @@
+package mancala;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static mancala.TestGames.assertSameGame;
+import static mancala.TestGames.playedGame;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GameStoreTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    public void testSave_LoadsSameBoardAfterReopening() throws Exception {
+        String filename = folder.resolve("games.store").toString();
+        MancalaGame kalah = playedGame(false, 4, 5);
+        MancalaGame ayo = playedGame(true, 5, 3);
+        try (GameStore store = new GameStore(filename, 100)) {
+            store.save(42, kalah);
+            store.save(-7, ayo);
+            assertEquals(2, store.size());
+        }
+        try (GameStore store = new GameStore(filename, 100)) {
+            assertEquals(2, store.size());
+            MancalaGame loaded = store.load(42, new Player("Ada"), new Player("Bola"));
+            assertSameGame(kalah, loaded);
+            MancalaGame loadedAyo = store.load(-7);
+            assertEquals(ayo.toString(), loadedAyo.toString());
+            assertTrue(loadedAyo.copyRules() instanceof AyoRules);
+            assertNull(store.load(43));
+        }
+    }
+
+    @Test
+    public void testSave_ReplacesAndRemoves() throws Exception {
+        try (GameStore store = new GameStore(folder.resolve("replace.store").toString(), 4)) {
+            store.save(1, playedGame(false, 4, 1));
+            MancalaGame later = playedGame(false, 4, 4);
+            store.save(1, later);
+            assertEquals(1, store.size());
+            assertEquals(later.toString(), store.load(1).toString());
+
+            // ids sharing a probe path stay reachable after one is removed
+            for (long id = 2; id <= 4; id++) {
+                store.save(id, playedGame(true, 5, (int) id));
+            }
+            assertThrows(RuntimeException.class, () -> store.save(5, later));
+            assertTrue(store.remove(2));
+            assertFalse(store.remove(2));
+            assertFalse(store.contains(2));
+            for (long id = 3; id <= 4; id++) {
+                assertEquals(playedGame(true, 5, (int) id).toString(), store.load(id).toString());
+            }
+            store.save(5, later);
+            assertEquals(4, store.size());
+        }
+    }
+
+    @Test
+    public void testOpen_DropsSlotTornByCrash() throws Exception {
+        String filename = folder.resolve("torn.store").toString();
+        MancalaGame kept = playedGame(false, 4, 2);
+        try (GameStore store = new GameStore(filename, 16)) {
+            store.save(7, playedGame(false, 4, 3));
+            store.save(8, kept);
+        }
+        // a crash in the middle of saving id 7 leaves its slot version odd
+        try (RandomAccessFile file = new RandomAccessFile(filename, "rw")) {
+            for (long base = 64; base < file.length(); base += GameStore.SLOT_BYTES) {
+                file.seek(base + 8);
+                if (file.readLong() == 7) {
+                    file.seek(base);
+                    int version = file.readInt();
+                    file.seek(base);
+                    file.writeInt(version | 1);
+                }
+            }
+        }
+        try (GameStore store = new GameStore(filename, 16)) {
+            assertEquals(1, store.size());
+            assertNull(store.load(7));
+            assertEquals(kept.toString(), store.load(8).toString());
+            MancalaGame resaved = playedGame(true, 5, 4);
+            store.save(7, resaved);
+            assertEquals(resaved.toString(), store.load(7).toString());
+            assertEquals(2, store.size());
+        }
+    }
+
+    @Test
+    public void testOpen_RejectsOtherSizes() throws IOException {
+        String filename = folder.resolve("sized.store").toString();
+        new GameStore(filename, 10).close();
+        assertThrows(IOException.class, () -> new GameStore(filename, 11));
+    }
+
+    @Test
+    public void testSave_ManyThreads() throws Exception {
+        MancalaGame[] games = new MancalaGame[8];
+        for (int i = 0; i < games.length; i++) {
+            games[i] = playedGame(i % 2 == 1, 4, i);
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try (GameStore store = new GameStore(folder.resolve("threads.store").toString(), 1024)) {
+            List<Future<?>> done = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final int thread = t;
+                done.add(pool.submit(() -> {
+                    for (int round = 0; round < 200; round++) {
+                        for (long id = 0; id < 100; id++) {
+                            store.save(id * 4 + thread, games[(int) ((id + round) % games.length)]);
+                            MancalaGame loaded = store.load(id * 4 + (thread + 1) % 4);
+                            if (loaded != null) {
+                                boolean matches = false;
+                                for (MancalaGame game : games) {
+                                    matches |= game.getPositionHash() == loaded.getPositionHash();
+                                }
+                                assertTrue(matches);
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : done) {
+                future.get();
+            }
+            assertEquals(400, store.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
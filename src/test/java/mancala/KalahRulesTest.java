@@ -308,4 +308,51 @@ public class KalahRulesTest {
         assertEquals(0, dataStructure.getNumStones(7));
         assertEquals(5, dataStructure.getStoreCount(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testDistributeStones_WithMultipleLaps() {
+        int[] lapCounts = {12, 13, 14, 26, 27, 40, 53};
+        for (int stones : lapCounts) {
+            for (int player = 1; player <= 2; player++) {
+                // sowing from the opponent's side so the last stone can never capture
+                int startPit = player == 1 ? 9 : 3;
+                KalahRules lapRules = new KalahRules();
+                lapRules.registerPlayers(new Player(), new Player());
+                MancalaDataStructure lapData = lapRules.getDataStructure();
+                lapData.addStones(startPit, stones - 4);
+                lapRules.setPlayer(player);
+
+                // sow the same stones one at a time through the iterator to compare against
+                MancalaDataStructure expected = new MancalaDataStructure();
+                expected.setUpPits();
+                expected.addStones(startPit, stones - 4);
+                int sown = expected.removeStones(startPit);
+                expected.setIterator(startPit, player, false);
+                for (int i = 0; i < sown; i++) {
+                    expected.next().addStone();
+                }
+
+                assertEquals(stones, lapRules.distributeStones(startPit));
+                for (int i = 1; i <= 12; i++) {
+                    assertEquals(expected.getNumStones(i), lapData.getNumStones(i));
+                }
+                assertEquals(expected.getStoreCount(1), lapData.getStoreCount(1));
+                assertEquals(expected.getStoreCount(2), lapData.getStoreCount(2));
+            }
+        }
+    }
+
+    @Test
+    public void testMoveStones_WithFullLapLandingInStartingPit() throws InvalidMoveException {
+        for (int i = 1; i <= 12; i++) {
+            dataStructure.removeStones(i);
+        }
+        dataStructure.addStones(2, 13);
+        dataStructure.addStones(11, 3);
+        assertEquals(6, kalahRules.moveStones(2, 1));
+        assertEquals(0, dataStructure.getNumStones(2));
+        assertEquals(0, dataStructure.getNumStones(11));
+        assertEquals(6, dataStructure.getStoreCount(1));
+        assertEquals(2, kalahRules.getCurrentPlayer());
+    }
+}
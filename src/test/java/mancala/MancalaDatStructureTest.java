@@ -133,5 +133,40 @@ public class MancalaDatStructureTest {
         assertTrue(dataStructure.isSideEmpty(1));
         assertTrue(dataStructure.isSideEmpty(2));
     }
-    
+
+    @Test
+    public void testZobristHash_MatchesRecomputedHash() {
+        dataStructure.addStones(2, 3);
+        dataStructure.removeStones(9);
+        dataStructure.addToStore(1, 4);
+        dataStructure.addToSlot(13, 2);
+        dataStructure.setStore(new Store(), 2);
+        assertEquals(ZobristKeys.hashOf(dataStructure), dataStructure.getZobristHash());
+    }
+
+    @Test
+    public void testZobristHash_WithTransposedMoves() {
+        MancalaDataStructure other = new MancalaDataStructure();
+        other.setUpPits();
+        dataStructure.addStones(1, 2);
+        dataStructure.addToStore(2, 1);
+        other.addToStore(2, 1);
+        other.addStones(1, 2);
+        assertEquals(dataStructure.getZobristHash(), other.getZobristHash());
+        other.addStones(3, 1);
+        assertFalse(dataStructure.getZobristHash() == other.getZobristHash());
+    }
+
+    @Test
+    public void testSetUpPits_KeepsOwnStartStones() {
+        MancalaDataStructure three = new MancalaDataStructure(3);
+        MancalaDataStructure six = new MancalaDataStructure(6);
+        three.setUpPits();
+        six.setUpPits();
+        assertEquals(3, three.getNumStones(1));
+        assertEquals(6, six.getNumStones(1));
+        assertEquals(3, three.copy().getStartStones());
+        dataStructure.setUpPits();
+        assertEquals(4, dataStructure.getNumStones(12));
+    }
 }
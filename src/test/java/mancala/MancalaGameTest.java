@@ -540,4 +540,59 @@ public class MancalaGameTest {
         assertEquals(0, game.getStoreCount(player2));
     }
     */
+
+    private MancalaGame kalahGame;
+    private Player kalahOne;
+    private Player kalahTwo;
+
+    @BeforeEach
+    public void setUpKalahGame() {
+        kalahGame = new MancalaGame();
+        kalahGame.startKalahGame();
+        kalahOne = new Player("One");
+        kalahTwo = new Player("Two");
+        kalahGame.setPlayers(kalahOne, kalahTwo);
+    }
+
+    @Test
+    public void testSnapshot_IsNotChangedByLaterMoves() throws InvalidMoveException {
+        MancalaGame snapshot = kalahGame.snapshot();
+        kalahGame.move(3);
+        assertEquals(0, kalahGame.getNumStones(3));
+        assertEquals(1, kalahOne.getStoreCount());
+        assertEquals(4, snapshot.getNumStones(3));
+        assertEquals(0, snapshot.getStoreCount(1));
+        assertEquals(1, snapshot.getCurrPlayerNum());
+    }
+
+    @Test
+    public void testSnapshot_MovesDoNotChangeOriginal() throws InvalidMoveException {
+        MancalaGame snapshot = kalahGame.snapshot();
+        snapshot.move(3);
+        snapshot.move(9);
+        assertEquals(4, kalahGame.getNumStones(3));
+        assertEquals(4, kalahGame.getNumStones(9));
+        assertEquals(0, kalahOne.getStoreCount());
+        assertEquals(1, snapshot.getStoreCount(1));
+        assertEquals("One", snapshot.getPlayerOneName());
+    }
+
+    @Test
+    public void testGetBookMove_UsesBookForSameRules() throws InvalidMoveException {
+        OpeningBook book = new OpeningBook(OpeningBook.rulesNameOf(kalahGame.copyRules()), 4, 4);
+        book.put(kalahGame.getPositionHash(), 3, 2);
+        assertEquals(-1, kalahGame.getBookMove());
+        kalahGame.setOpeningBook(book);
+        assertEquals(3, kalahGame.getBookMove());
+        kalahGame.move(3);
+        assertEquals(-1, kalahGame.getBookMove());
+    }
+
+    @Test
+    public void testGetBookMove_IgnoresBookForOtherRules() {
+        OpeningBook book = new OpeningBook("AyoRules", 4, 4);
+        book.put(kalahGame.getPositionHash(), 3, 2);
+        kalahGame.setOpeningBook(book);
+        assertEquals(-1, kalahGame.getBookMove());
+    }
 }
@@ -0,0 +1,160 @@
+package mancala;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static mancala.TestGames.assertSameGame;
+import static mancala.TestGames.newGame;
+import static mancala.TestGames.playFirstPit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MoveJournalTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    public void testReplay_RebuildsWholeGame() throws Exception {
+        String filename = folder.resolve("game.journal").toString();
+        MancalaGame game = newGame(false, 4);
+        try (MoveJournal journal = MoveJournal.create(filename, game, 5, 3)) {
+            assertSame(journal, game.getJournal());
+            while (!game.isGameOver()) {
+                playFirstPit(game);
+                journal.commit();
+                assertSameGame(game, MoveJournal.replay(filename));
+            }
+        }
+        assertNull(game.getJournal());
+        // the replayed game is left as the last move left it, and sweeps its stones like any other
+        MancalaGame replayed = MoveJournal.replay(filename);
+        assertTrue(replayed.isGameOver());
+        assertSameGame(game, replayed);
+    }
+
+    @Test
+    public void testMove_PlaysSameWithJournal() throws Exception {
+        MancalaGame plain = newGame(false, 4);
+        MancalaGame journaled = newGame(false, 4);
+        try (MoveJournal journal = MoveJournal.create(folder.resolve("same.journal").toString(), journaled, 5, 4)) {
+            assertSame(journal, journaled.getJournal());
+            while (!plain.getBoard().isSideEmpty(1) && !plain.getBoard().isSideEmpty(2)) {
+                int pit = plain.currPlayerStartPit();
+                while (plain.getNumStones(pit) == 0) {
+                    pit++;
+                }
+                assertEquals(plain.move(pit), journaled.move(pit));
+                assertSameGame(plain, journaled);
+            }
+        }
+    }
+
+    @Test
+    public void testAppend_GroupsCommits() throws Exception {
+        String filename = folder.resolve("grouped.journal").toString();
+        MancalaGame game = newGame(false, 4);
+        try (MoveJournal journal = MoveJournal.create(filename, game, 100, 3)) {
+            assertSame(journal, game.getJournal());
+            long start = Files.size(Path.of(filename));
+            playFirstPit(game);
+            playFirstPit(game);
+            assertEquals(start, Files.size(Path.of(filename)));
+            playFirstPit(game);
+            // the third move commits all three, one byte each
+            assertEquals(start + 3, Files.size(Path.of(filename)));
+        }
+    }
+
+    @Test
+    public void testOpen_DropsTornTailAndCarriesOn() throws Exception {
+        String filename = folder.resolve("torn.journal").toString();
+        MancalaGame game = newGame(false, 4);
+        try (MoveJournal journal = MoveJournal.create(filename, game, 4, 1)) {
+            assertSame(journal, game.getJournal());
+            for (int i = 0; i < 6; i++) {
+                playFirstPit(game);
+            }
+        }
+        long whole = Files.size(Path.of(filename));
+        // a snapshot record cut off by a crash
+        Files.write(Path.of(filename), new byte[] {1, 0, 40, 7}, StandardOpenOption.APPEND);
+
+        try (MoveJournal journal = MoveJournal.open(filename)) {
+            assertEquals(whole, Files.size(Path.of(filename)));
+            MancalaGame reopened = journal.getGame();
+            assertSameGame(game, reopened);
+            playFirstPit(game);
+            playFirstPit(reopened);
+        }
+        assertSameGame(game, MoveJournal.replay(filename));
+    }
+
+    @Test
+    public void testStartNewGame_IsSnapshotted() throws Exception {
+        String filename = folder.resolve("restart.journal").toString();
+        MancalaGame game = newGame(false, 4);
+        try (MoveJournal journal = MoveJournal.create(filename, game)) {
+            playFirstPit(game);
+            game.startNewGame();
+            playFirstPit(game);
+            journal.commit();
+        }
+        assertSameGame(game, MoveJournal.replay(filename));
+    }
+
+    @Test
+    public void testSetPlayer_IsSnapshotted() throws Exception {
+        String filename = folder.resolve("players.journal").toString();
+        MancalaGame game = new MancalaGame();
+        game.startKalahGame();
+        try (MoveJournal journal = MoveJournal.create(filename, game)) {
+            game.setPlayer(2);
+            game.move(9);
+            game.setPlayers(new Player("Ada"), new Player("Bola"));
+            game.move(3);
+            game.setOnePlayer(new Player("Chidi"), 1);
+            journal.commit();
+        }
+        MancalaGame replayed = MoveJournal.replay(filename);
+        assertSameGame(game, replayed);
+        assertEquals("Chidi", replayed.getPlayerOneName());
+        assertEquals("Bola", replayed.getPlayerTwoName());
+    }
+
+    @Test
+    public void testMove_TakenBackWhenJournalFails() throws Exception {
+        String filename = folder.resolve("failed.journal").toString();
+        MancalaGame plain = newGame(false, 4);
+        MancalaGame game = newGame(false, 4);
+        try (MoveJournal journal = MoveJournal.create(filename, game, 100, 1)) {
+            assertSame(journal, game.getJournal());
+            playFirstPit(plain);
+            playFirstPit(game);
+            // an interrupted thread cannot write to the file, so the next commit fails
+            Thread.currentThread().interrupt();
+            try {
+                assertThrows(RuntimeException.class, () -> playFirstPit(game));
+            } finally {
+                assertTrue(Thread.interrupted());
+            }
+            assertSameGame(plain, game);
+        }
+        assertSameGame(game, MoveJournal.replay(filename));
+    }
+
+    @Test
+    public void testReplay_RejectsOtherFiles() throws IOException {
+        Path other = folder.resolve("other");
+        Files.write(other, new byte[] {1, 2, 3, 4, 5, 6});
+        assertThrows(IOException.class, () -> MoveJournal.replay(other.toString()));
+    }
+}
@@ -0,0 +1,71 @@
+package mancala;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static mancala.TestGames.playedGame;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SaverTest {
+
+    @TempDir
+    Path folder;
+
+    private final Saver saver = new Saver();
+
+    @Test
+    public void testSaveObject_ReplacesFileWithoutLeavingTemporaries() throws Exception {
+        String filename = folder.resolve("game").toString();
+        saver.saveObject(new UserProfile("old"), filename);
+        MancalaGame game = playedGame(false, 4, 1);
+        saver.saveObject(game, filename);
+        assertTrue(saver.verify(filename));
+        assertEquals(game.toString(), saver.loadObject(filename).toString());
+        try (Stream<Path> files = Files.list(folder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void testVerify_FindsDamagedFiles() throws Exception {
+        Path file = folder.resolve("profile");
+        saver.saveObject(new UserProfile("Ada"), file.toString());
+        byte[] data = Files.readAllBytes(file);
+
+        data[data.length - 3] ^= 1;
+        Files.write(file, data);
+        assertFalse(saver.verify(file.toString()));
+        IOException damaged = assertThrows(IOException.class, () -> saver.loadObject(file.toString()));
+        assertTrue(damaged.getMessage().contains("damaged"));
+
+        data[data.length - 3] ^= 1;
+        Files.write(file, java.util.Arrays.copyOf(data, data.length - 5));
+        assertFalse(saver.verify(file.toString()));
+        assertFalse(saver.verify(folder.resolve("missing").toString()));
+    }
+
+    @Test
+    public void testLoadObject_ReadsFilesWithoutHeader() throws Exception {
+        MancalaGame game = playedGame(false, 4, 1);
+        Path legacy = folder.resolve("legacy");
+        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(legacy.toFile()))) {
+            out.writeObject(game);
+        }
+        Path bare = folder.resolve("bare");
+        Files.write(bare, GameCodec.encode(game));
+        for (Path file : new Path[] {legacy, bare}) {
+            assertTrue(saver.verify(file.toString()));
+            assertEquals(game.toString(), saver.loadObject(file.toString()).toString());
+        }
+    }
+}
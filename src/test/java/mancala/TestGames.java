@@ -0,0 +1,78 @@
+package mancala;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Games and checks shared by the tests that save, journal and reload games.
+ */
+final class TestGames {
+
+    private TestGames() {
+    }
+
+    /**
+     * Starts a game between Ada and Bola.
+     *
+     * @param ayo           True for the Ayo rule set, false for Kalah.
+     * @param startStones   The number of stones in each pit at the start.
+     * @return  The new game.
+     */
+    static MancalaGame newGame(final boolean ayo, final int startStones) {
+        MancalaGame game = new MancalaGame();
+        if (ayo) {
+            game.startAyoGame(startStones);
+        } else {
+            game.startKalahGame(startStones);
+        }
+        game.setPlayers(new Player("Ada"), new Player("Bola"));
+        return game;
+    }
+
+    /**
+     * Starts a game between Ada and Bola and plays some moves, each from the
+     * current player's first non-empty pit, stopping early if the game ends.
+     *
+     * @param ayo           True for the Ayo rule set, false for Kalah.
+     * @param startStones   The number of stones in each pit at the start.
+     * @param moves         The most moves to play.
+     * @return  The played game.
+     * @throws InvalidMoveException  If a move is invalid.
+     */
+    static MancalaGame playedGame(final boolean ayo, final int startStones, final int moves)
+        throws InvalidMoveException {
+        MancalaGame game = newGame(ayo, startStones);
+        for (int i = 0; i < moves && !game.isGameOver(); i++) {
+            playFirstPit(game);
+        }
+        return game;
+    }
+
+    /**
+     * Plays a move from the current player's first non-empty pit.
+     *
+     * @param game  The game to move in.
+     * @throws InvalidMoveException  If the move is invalid.
+     */
+    static void playFirstPit(final MancalaGame game) throws InvalidMoveException {
+        int pit = game.currPlayerStartPit();
+        while (game.getNumStones(pit) == 0) {
+            pit++;
+        }
+        game.move(pit);
+    }
+
+    /**
+     * Checks that two games have the same board, turn, players and rule set.
+     *
+     * @param expected  The original game.
+     * @param actual    The saved, journaled or reloaded game.
+     */
+    static void assertSameGame(final MancalaGame expected, final MancalaGame actual) {
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expected.getCurrPlayerNum(), actual.getCurrPlayerNum());
+        assertEquals(expected.getPositionHash(), actual.getPositionHash());
+        assertEquals(expected.getPlayerOneName(), actual.getPlayerOneName());
+        assertEquals(expected.getPlayerTwoName(), actual.getPlayerTwoName());
+        assertEquals(expected.copyRules().getClass(), actual.copyRules().getClass());
+    }
+}
@@ -0,0 +1,98 @@
+package search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import mancala.AyoRules;
+import mancala.CompactBoard;
+import mancala.GameRules;
+import mancala.KalahRules;
+
+public class AlphaBetaSearchTest {
+    private AlphaBetaSearch search;
+
+    @BeforeEach
+    public void setUp() {
+        search = new AlphaBetaSearch();
+    }
+
+    @Test
+    public void testSearch_FindsCapture() {
+        CompactBoard board = new CompactBoard();
+        board.addStones(2, 1);
+        board.addStones(5, 3);
+        board.addStones(8, 1);
+        board.addStones(10, 9);
+        // pit 2 lands in the empty pit 3 and captures the nine stones in pit 10
+        SearchResult result = search.search(new KalahRules(), board, 1, SearchLimits.depth(1));
+        assertEquals(2, result.getBestPit());
+        assertEquals(10, result.getScore());
+    }
+
+    @Test
+    public void testSearch_MatchesMinimax() {
+        Random random = new Random(3);
+        GameRules[] ruleSets = {new KalahRules(), new AyoRules()};
+        for (GameRules rules : ruleSets) {
+            for (int trial = 0; trial < 20; trial++) {
+                CompactBoard board = randomBoard(random);
+                int player = 1 + random.nextInt(2);
+                SearchResult result = search.search(rules, board, player, SearchLimits.depth(4));
+                assertEquals(minimax(rules, board, player, 4), result.getScore());
+                assertEquals(4, result.getDepth());
+                assertTrue(board.getNumStones(result.getBestPit()) > 0);
+            }
+        }
+    }
+
+    @Test
+    public void testSearch_StopsAtNodeLimit() {
+        SearchResult result = search.search(new KalahRules(), new CompactBoard(4), 1,
+            new SearchLimits(AlphaBetaSearch.MAX_DEPTH, 5000, Long.MAX_VALUE));
+        assertTrue(result.getNodes() <= 5000);
+        assertTrue(result.getBestPit() >= 1 && result.getBestPit() <= 6);
+    }
+
+    @Test
+    public void testSearch_ReadsClockSoonAfterDeadline() {
+        // the deadline has passed, so the first clock check must end the search
+        SearchResult result = search.search(new KalahRules(), new CompactBoard(4), 1,
+            new SearchLimits(AlphaBetaSearch.MAX_DEPTH, Long.MAX_VALUE, 0));
+        assertTrue(result.getNodes() < 2048, "visited " + result.getNodes());
+        assertTrue(result.getBestPit() >= 1 && result.getBestPit() <= 6);
+    }
+
+    private CompactBoard randomBoard(Random random) {
+        CompactBoard board = new CompactBoard();
+        for (int i = 1; i <= 12; i++) {
+            board.addStones(i, random.nextInt(5));
+        }
+        board.addStones(1 + random.nextInt(6), 1);
+        board.addStones(7 + random.nextInt(6), 1);
+        return board;
+    }
+
+    private int minimax(GameRules rules, CompactBoard board, int player, int depth) {
+        if (AlphaBetaSearch.isGameOver(board)) {
+            return AlphaBetaSearch.finalScore(board, player);
+        }
+        if (depth == 0) {
+            return AlphaBetaSearch.evaluate(board, player);
+        }
+        int best = -AlphaBetaSearch.INFINITY;
+        for (int pit = player == 1 ? 1 : 7; pit <= (player == 1 ? 6 : 12); pit++) {
+            if (board.getNumStones(pit) > 0) {
+                CompactBoard child = new CompactBoard(board);
+                int next = rules.playMove(child, pit, player);
+                int score = minimax(rules, child, next, depth - 1);
+                best = Math.max(best, next == player ? score : -score);
+            }
+        }
+        return best;
+    }
+}
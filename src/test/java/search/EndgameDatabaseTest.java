@@ -0,0 +1,127 @@
+package search;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import mancala.CompactBoard;
+import mancala.KalahRules;
+
+public class EndgameDatabaseTest {
+    private static final int STONES = 6;
+
+    @TempDir
+    static Path folder;
+
+    private static EndgameDatabase database;
+
+    @BeforeAll
+    public static void generateDatabase() throws IOException {
+        String filename = folder.resolve("kalah.egdb").toString();
+        EndgameGenerator.generate(STONES, filename);
+        database = EndgameDatabase.open(filename);
+    }
+
+    @Test
+    public void testIndexOf_NumbersEveryPositionOnce() {
+        CompactBoard board = new CompactBoard();
+        for (int stones = 0; stones <= 4; stones++) {
+            for (long rank = 0; rank < PositionIndex.levelSize(stones); rank++) {
+                PositionIndex.fill(stones, rank, board);
+                assertEquals(stones, PositionIndex.stonesInPits(board));
+                assertEquals(PositionIndex.offset(stones) + rank, PositionIndex.indexOf(board, 1));
+            }
+        }
+        assertEquals(PositionIndex.offset(5), PositionIndex.offset(4) + PositionIndex.levelSize(4));
+    }
+
+    @Test
+    public void testIndexOf_MirrorsForPlayerTwo() {
+        CompactBoard board = randomBoard(new Random(5), STONES);
+        CompactBoard mirrored = new CompactBoard();
+        for (int slot = 0; slot < 6; slot++) {
+            mirrored.addToSlot(slot, board.getSlotCount(slot + 7));
+            mirrored.addToSlot(slot + 7, board.getSlotCount(slot));
+        }
+        assertEquals(PositionIndex.indexOf(board, 2), PositionIndex.indexOf(mirrored, 1));
+    }
+
+    @Test
+    public void testProbe_MatchesFullSearch() {
+        Random random = new Random(11);
+        AlphaBetaSearch search = new AlphaBetaSearch();
+        for (int trial = 0; trial < 200; trial++) {
+            CompactBoard board = randomBoard(random, 1 + random.nextInt(STONES));
+            board.addToStore(1, random.nextInt(10));
+            board.addToStore(2, random.nextInt(10));
+            int player = 1 + random.nextInt(2);
+            SearchResult result = search.search(new KalahRules(), board, player,
+                SearchLimits.depth(AlphaBetaSearch.MAX_DEPTH));
+            assertEquals(result.getScore(), database.probe(board, player));
+        }
+    }
+
+    @Test
+    public void testBestMove_ReachesProbedScore() {
+        Random random = new Random(12);
+        KalahRules rules = new KalahRules();
+        for (int trial = 0; trial < 100; trial++) {
+            CompactBoard board = randomBoard(random, 2 + random.nextInt(STONES - 1));
+            if (AlphaBetaSearch.isGameOver(board)) {
+                continue;
+            }
+            int pit = database.bestMove(board, 1);
+            CompactBoard child = new CompactBoard(board);
+            int next = rules.playMove(child, pit, 1);
+            int score = next == 1 ? database.probe(child, 1) : -database.probe(child, 2);
+            assertEquals(database.probe(board, 1), score);
+        }
+    }
+
+    @Test
+    public void testSearch_UsesDatabase() {
+        AlphaBetaSearch search = new AlphaBetaSearch();
+        search.setEndgameDatabase(database);
+        CompactBoard board = randomBoard(new Random(13), STONES);
+        board.addStones(3, 1);
+        board.addStones(9, 1);
+        SearchResult result = search.search(new KalahRules(), board, 1, SearchLimits.depth(2));
+        SearchResult exact = new AlphaBetaSearch().search(new KalahRules(), board, 1,
+            SearchLimits.depth(AlphaBetaSearch.MAX_DEPTH));
+        assertEquals(exact.getScore(), result.getScore());
+    }
+
+    @Test
+    public void testContains_ChecksStonesLeft() {
+        assertTrue(database.contains(randomBoard(new Random(1), STONES)));
+        assertFalse(database.contains(new CompactBoard(4)));
+        assertThrows(RuntimeException.class, () -> database.probe(new CompactBoard(4), 1));
+    }
+
+    @Test
+    public void testOpen_RejectsOtherFile() throws IOException {
+        String filename = folder.resolve("other.egdb").toString();
+        try (FileOutputStream out = new FileOutputStream(filename)) {
+            out.write(new byte[16]);
+        }
+        assertThrows(IOException.class, () -> EndgameDatabase.open(filename));
+    }
+
+    private static CompactBoard randomBoard(Random random, int stones) {
+        CompactBoard board = new CompactBoard();
+        for (int i = 0; i < stones; i++) {
+            board.addStones(1 + random.nextInt(12), 1);
+        }
+        return board;
+    }
+}
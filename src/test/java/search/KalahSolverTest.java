@@ -0,0 +1,93 @@
+package search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import mancala.CompactBoard;
+import mancala.KalahRules;
+
+public class KalahSolverTest {
+    @TempDir
+    Path folder;
+
+    private MappedTranspositionTable table;
+    private KalahSolver solver;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        table = new MappedTranspositionTable(folder.resolve("solver.tt").toString(), 4);
+        solver = new KalahSolver(table);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        table.close();
+    }
+
+    @Test
+    public void testSolve_OneStoneKalah() {
+        SolverResult result = solver.solve(1);
+        assertEquals(2, result.getValue());
+        assertArrayEquals(new int[] {6}, result.getOptimalPits());
+    }
+
+    @Test
+    public void testSolve_TwoStoneKalah() {
+        SolverResult result = solver.solve(2);
+        assertEquals(6, result.getValue());
+        assertTrue(result.isOptimal(5));
+    }
+
+    @Test
+    public void testSolve_MatchesEndgameDatabase() throws IOException {
+        String filename = folder.resolve("kalah.egdb").toString();
+        EndgameGenerator.generate(5, filename);
+        EndgameDatabase database = EndgameDatabase.open(filename);
+        Random random = new Random(17);
+        for (int trial = 0; trial < 100; trial++) {
+            CompactBoard board = new CompactBoard();
+            for (int i = 0; i < 5; i++) {
+                board.addStones(1 + random.nextInt(12), 1);
+            }
+            int player = 1 + random.nextInt(2);
+            assertEquals(database.probe(board, player), solver.solve(board, player).getValue());
+        }
+    }
+
+    @Test
+    public void testSolve_OptimalMovesReachValue() {
+        CompactBoard board = new CompactBoard(1);
+        board.addStones(3, 2);
+        board.addStones(9, 1);
+        SolverResult result = solver.solve(board, 1);
+        KalahRules rules = new KalahRules();
+        for (int pit = 1; pit <= 6; pit++) {
+            CompactBoard child = new CompactBoard(board);
+            int next = rules.playMove(child, pit, 1);
+            SolverResult reply = solver.solve(child, next);
+            int score = next == 1 ? reply.getValue() : -reply.getValue();
+            assertEquals(result.isOptimal(pit), score == result.getValue());
+            assertTrue(score <= result.getValue());
+        }
+    }
+
+    @Test
+    public void testSolve_ReusesTableFile() throws IOException {
+        SolverResult first = solver.solve(2);
+        table.close();
+        table = new MappedTranspositionTable(folder.resolve("solver.tt").toString(), 4);
+        SolverResult second = new KalahSolver(table).solve(2);
+        assertEquals(first.getValue(), second.getValue());
+        assertTrue(second.getNodes() < first.getNodes());
+    }
+}
@@ -0,0 +1,71 @@
+package search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import mancala.AyoRules;
+import mancala.CompactBoard;
+import mancala.KalahRules;
+
+public class MonteCarloSearchTest {
+    private MonteCarloSearch search;
+
+    @BeforeEach
+    public void setUp() {
+        search = new MonteCarloSearch(1 << 16, 42);
+    }
+
+    @Test
+    public void testConstructor_RejectsEmptyArena() {
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloSearch(0, 1));
+    }
+
+    @Test
+    public void testSearch_FindsCapture() {
+        CompactBoard board = new CompactBoard();
+        board.addStones(2, 1);
+        board.addStones(5, 3);
+        board.addStones(8, 1);
+        board.addStones(10, 9);
+        SearchResult result = search.search(new KalahRules(), board, 1,
+            new SearchLimits(1, 5000, Long.MAX_VALUE));
+        assertEquals(2, result.getBestPit());
+        assertEquals(5000, result.getNodes());
+    }
+
+    @Test
+    public void testSearch_ReusesArenaBetweenMoves() {
+        MonteCarloSearch small = new MonteCarloSearch(500, 7);
+        AyoRules rules = new AyoRules();
+        CompactBoard board = new CompactBoard(4);
+        int player = 1;
+        for (int turn = 0; turn < 10 && !AlphaBetaSearch.isGameOver(board); turn++) {
+            SearchResult result = small.search(rules, board, player, new SearchLimits(1, 2000, Long.MAX_VALUE));
+            assertTrue(board.getNumStones(result.getBestPit()) > 0);
+            assertTrue(result.getDepth() >= 1);
+            player = rules.playMove(board, result.getBestPit(), player);
+        }
+    }
+
+    @Test
+    public void testSearch_RunsOnePlayoutWithNoBudget() {
+        SearchResult result = search.search(new KalahRules(), new CompactBoard(4), 1,
+            new SearchLimits(1, 0, Long.MAX_VALUE));
+        assertEquals(1, result.getNodes());
+        assertTrue(result.getBestPit() >= 1 && result.getBestPit() <= 6);
+    }
+
+    @Test
+    public void testSearch_ReportsFinishedGame() {
+        CompactBoard board = new CompactBoard();
+        board.addToStore(1, 30);
+        board.addStones(9, 2);
+        SearchResult result = search.search(new KalahRules(), board, 1, SearchLimits.time(100));
+        assertEquals(-1, result.getBestPit());
+        assertEquals(28, result.getScore());
+    }
+}
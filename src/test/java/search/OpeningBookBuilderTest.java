@@ -0,0 +1,95 @@
+package search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import mancala.AyoRules;
+import mancala.CompactBoard;
+import mancala.GameRules;
+import mancala.InvalidMoveException;
+import mancala.KalahRules;
+import mancala.MancalaGame;
+import mancala.OpeningBook;
+
+public class OpeningBookBuilderTest {
+    @TempDir
+    Path folder;
+
+    @Test
+    public void testBuild_CoversEveryPositionInPlies() {
+        GameRules rules = new KalahRules();
+        OpeningBook book = new OpeningBookBuilder().build(rules, 4, 2, SearchLimits.depth(4));
+        CompactBoard start = new CompactBoard(4);
+        assertTrue(book.size() > 6);
+        for (int pit = 1; pit <= 6; pit++) {
+            CompactBoard child = new CompactBoard(start);
+            int next = rules.playMove(child, pit, 1);
+            long key = GameRules.positionHash(child, next);
+            SearchResult expected = new AlphaBetaSearch().search(rules, child, next, SearchLimits.depth(4));
+            assertEquals(expected.getBestPit(), book.getMove(key));
+            assertEquals(expected.getScore(), book.getScore(key));
+        }
+    }
+
+    @Test
+    public void testBuild_SavedBookLoadsIntoGame() throws IOException, InvalidMoveException {
+        String filename = folder.resolve("ayo.book").toString();
+        OpeningBook built = OpeningBookBuilder.build(new AyoRules(), 4, 3, SearchLimits.depth(3), filename);
+        OpeningBook loaded = OpeningBook.load(filename);
+        assertEquals(built.size(), loaded.size());
+        assertEquals("AyoRules", loaded.getRulesName());
+        assertEquals(4, loaded.getStartStones());
+
+        MancalaGame game = new MancalaGame();
+        game.startAyoGame();
+        game.setOpeningBook(loaded);
+        for (int move = 0; move < 2; move++) {
+            int pit = game.getBookMove();
+            assertEquals(built.getMove(game.getPositionHash()), pit);
+            assertTrue(game.getNumStones(pit) > 0);
+            game.move(pit);
+        }
+    }
+
+    @Test
+    public void testLoadFolder_GivesGamesTheBookForTheirRules() throws IOException {
+        Path books = folder.resolve("books");
+        assertTrue(OpeningBook.loadFolder(books.toString()).isEmpty());
+        books.toFile().mkdir();
+        for (GameRules rules : new GameRules[] {new KalahRules(), new AyoRules()}) {
+            OpeningBookBuilder.build(rules, 4, 1, SearchLimits.depth(2),
+                books.resolve(OpeningBook.fileNameOf(rules, 4)).toString());
+        }
+        List<OpeningBook> loaded = OpeningBook.loadFolder(books.toString());
+        assertEquals(2, loaded.size());
+
+        MancalaGame kalah = new MancalaGame();
+        kalah.startKalahGame();
+        kalah.setOpeningBooks(loaded);
+        OpeningBook kalahBook = new OpeningBookBuilder().build(new KalahRules(), 4, 1, SearchLimits.depth(2));
+        assertEquals(kalahBook.getMove(kalah.getPositionHash()), kalah.getBookMove());
+        MancalaGame ayo = new MancalaGame();
+        ayo.startAyoGame();
+        ayo.setOpeningBooks(loaded);
+        OpeningBook ayoBook = new OpeningBookBuilder().build(new AyoRules(), 4, 1, SearchLimits.depth(2));
+        assertEquals(ayoBook.getMove(ayo.getPositionHash()), ayo.getBookMove());
+    }
+
+    @Test
+    public void testLoad_RejectsOtherFile() throws IOException {
+        String filename = folder.resolve("other.book").toString();
+        try (FileOutputStream out = new FileOutputStream(filename)) {
+            out.write(new byte[16]);
+        }
+        assertThrows(IOException.class, () -> OpeningBook.load(filename));
+    }
+}
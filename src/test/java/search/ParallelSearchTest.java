@@ -0,0 +1,76 @@
+package search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import mancala.AyoRules;
+import mancala.CompactBoard;
+import mancala.KalahRules;
+
+public class ParallelSearchTest {
+    private ParallelSearch search;
+
+    @BeforeEach
+    public void setUp() {
+        search = new ParallelSearch(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        search.shutdown();
+    }
+
+    @Test
+    public void testConstructor_RejectsNoThreads() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSearch(0));
+        assertEquals(4, search.getThreadCount());
+    }
+
+    @Test
+    public void testSearch_FindsCapture() {
+        CompactBoard board = new CompactBoard();
+        board.addStones(2, 1);
+        board.addStones(5, 3);
+        board.addStones(8, 1);
+        board.addStones(10, 9);
+        SearchResult result = search.search(new KalahRules(), board, 1, SearchLimits.depth(1));
+        assertEquals(2, result.getBestPit());
+        assertEquals(10, result.getScore());
+    }
+
+    @Test
+    public void testSearch_ReachesDepthWithinDeadline() {
+        CompactBoard board = new CompactBoard(4);
+        long start = System.nanoTime();
+        SearchResult result = search.search(new AyoRules(), board, 1, SearchLimits.time(200));
+        long millis = (System.nanoTime() - start) / 1_000_000L;
+        assertTrue(millis < 2000);
+        assertTrue(result.getDepth() >= 1);
+        assertTrue(board.getNumStones(result.getBestPit()) > 0);
+    }
+
+    @Test
+    public void testSearch_SharesNodeLimitBetweenWorkers() {
+        SearchResult result = search.search(new KalahRules(), new CompactBoard(4), 1,
+            new SearchLimits(AlphaBetaSearch.MAX_DEPTH, 20_000, Long.MAX_VALUE));
+        // each worker may run one clock interval past the limit before it sees the shared count
+        assertTrue(result.getNodes() <= 20_000 + 4 * 2 * 1024, "visited " + result.getNodes());
+        assertTrue(result.getBestPit() >= 1 && result.getBestPit() <= 6);
+    }
+
+    @Test
+    public void testSearch_SingleThreadMatchesAlphaBeta() {
+        ParallelSearch single = new ParallelSearch(1);
+        CompactBoard board = new CompactBoard(4);
+        SearchResult parallel = single.search(new KalahRules(), board, 1, SearchLimits.depth(6));
+        SearchResult serial = new AlphaBetaSearch().search(new KalahRules(), board, 1, SearchLimits.depth(6));
+        assertEquals(serial.getScore(), parallel.getScore());
+        assertEquals(serial.getBestPit(), parallel.getBestPit());
+        single.shutdown();
+    }
+}
@@ -0,0 +1,94 @@
+package search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import mancala.CompactBoard;
+import mancala.KalahRules;
+
+public class TranspositionTableTest {
+    private TranspositionTable table;
+
+    @BeforeEach
+    public void setUp() {
+        table = new TranspositionTable(1);
+    }
+
+    @Test
+    public void testConstructor_SizesToPowerOfTwo() {
+        assertEquals(65536, table.capacity());
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+    }
+
+    @Test
+    public void testProbe_ReturnsStoredEntry() {
+        table.store(12345L, 7, TranspositionTable.LOWER_BOUND, -42, 5);
+        long entry = table.probe(12345L);
+        assertEquals(-42, TranspositionTable.scoreOf(entry));
+        assertEquals(7, TranspositionTable.depthOf(entry));
+        assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.boundOf(entry));
+        assertEquals(5, TranspositionTable.moveOf(entry));
+    }
+
+    @Test
+    public void testProbe_MissesOtherKeyInSameBucket() {
+        table.store(12345L, 7, TranspositionTable.EXACT, 3, 5);
+        assertEquals(TranspositionTable.MISS, table.probe(12345L + (1L << 40)));
+        assertEquals(TranspositionTable.MISS, table.probe(99L));
+    }
+
+    @Test
+    public void testStore_KeepsDeeperEntry() {
+        long deep = 2L;
+        long shallow = deep + (1L << 40);
+        long newest = deep + (2L << 40);
+        table.store(deep, 10, TranspositionTable.EXACT, 1, 1);
+        table.store(shallow, 2, TranspositionTable.EXACT, 2, 2);
+        table.store(newest, 3, TranspositionTable.EXACT, 3, 3);
+        // the deep entry survives and the newest replaces the shallow one
+        assertEquals(1, TranspositionTable.scoreOf(table.probe(deep)));
+        assertEquals(TranspositionTable.MISS, table.probe(shallow));
+        assertEquals(3, TranspositionTable.scoreOf(table.probe(newest)));
+    }
+
+    @Test
+    public void testStore_ReplacesEntryFromOlderSearch() {
+        long deep = 2L;
+        long shallow = deep + (1L << 40);
+        table.store(deep, 10, TranspositionTable.EXACT, 1, 1);
+        table.newSearch();
+        table.store(shallow, 2, TranspositionTable.EXACT, 2, 2);
+        assertEquals(2, TranspositionTable.scoreOf(table.probe(shallow)));
+        assertEquals(TranspositionTable.MISS, table.probe(deep));
+    }
+
+    @Test
+    public void testStore_SamePositionKeepsBestMove() {
+        table.store(8L, 4, TranspositionTable.EXACT, 1, 6);
+        table.store(8L, 5, TranspositionTable.UPPER_BOUND, -2, 0);
+        long entry = table.probe(8L);
+        assertEquals(5, TranspositionTable.depthOf(entry));
+        assertEquals(6, TranspositionTable.moveOf(entry));
+    }
+
+    @Test
+    public void testClear_EmptiesTable() {
+        table.store(8L, 4, TranspositionTable.EXACT, 1, 6);
+        table.clear();
+        assertEquals(TranspositionTable.MISS, table.probe(8L));
+    }
+
+    @Test
+    public void testSearch_SameScoreWithWarmTable() {
+        AlphaBetaSearch search = new AlphaBetaSearch(table);
+        CompactBoard board = new CompactBoard(4);
+        SearchResult cold = search.search(new KalahRules(), board, 1, SearchLimits.depth(8));
+        SearchResult warm = search.search(new KalahRules(), board, 1, SearchLimits.depth(8));
+        assertEquals(cold.getScore(), warm.getScore());
+        assertTrue(warm.getNodes() < cold.getNodes());
+    }
+}
@@ -0,0 +1,33 @@
+package sim;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ParallelSimulatorTest {
+
+    @Test
+    public void testRun_SameReportOnAnyThreadCount() {
+        ParallelSimulator simulator = new ParallelSimulator(Simulator.KALAH, RandomPolicy::new, RandomPolicy::new, 9);
+        SimulationReport single = simulator.run(500, 1);
+        SimulationReport parallel = simulator.run(500, 4);
+        assertEquals(500, parallel.getGames());
+        assertEquals(single.getWins(1), parallel.getWins(1));
+        assertEquals(single.getWins(2), parallel.getWins(2));
+        assertEquals(single.getAverageMoves(), parallel.getAverageMoves());
+        assertEquals(single.getMinMoves(), parallel.getMinMoves());
+        assertEquals(single.getMaxMoves(), parallel.getMaxMoves());
+        for (int margin = -48; margin <= 48; margin++) {
+            assertEquals(single.getMarginCount(margin), parallel.getMarginCount(margin));
+        }
+    }
+
+    @Test
+    public void testRun_RejectsNoThreads() {
+        ParallelSimulator simulator = new ParallelSimulator(Simulator.KALAH, RandomPolicy::new, RandomPolicy::new, 1);
+        assertThrows(IllegalArgumentException.class, () -> simulator.run(10, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ParallelSimulator("oware", RandomPolicy::new, RandomPolicy::new, 1));
+    }
+}
@@ -0,0 +1,53 @@
+package sim;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SimulatorTest {
+
+    @Test
+    public void testRun_RecordsEveryGame() {
+        Simulator simulator = new Simulator(Simulator.KALAH, new RandomPolicy(1), new RandomPolicy(2));
+        SimulationReport report = simulator.run(200);
+        assertEquals(200, report.getGames());
+        assertEquals(200, report.getWins(0) + report.getWins(1) + report.getWins(2));
+        assertTrue(report.getMinMoves() > 0);
+        assertTrue(report.getAverageMoves() >= report.getMinMoves());
+        assertTrue(report.getAverageMoves() <= report.getMaxMoves());
+        assertTrue(report.getGamesPerSecond() > 0);
+        long margins = 0;
+        for (int margin = -48; margin <= 48; margin++) {
+            margins += report.getMarginCount(margin);
+        }
+        assertEquals(200, margins);
+    }
+
+    @Test
+    public void testRun_GreedyBeatsRandom() {
+        SimulationReport kalah = new Simulator(Simulator.KALAH, new GreedyPolicy(), new RandomPolicy(3)).run(200);
+        assertTrue(kalah.getWinRate(1) > 0.7);
+        assertTrue(kalah.getAverageMargin() > 0);
+        SimulationReport ayo = new Simulator(Simulator.AYO, new RandomPolicy(4), new GreedyPolicy()).run(200);
+        assertTrue(ayo.getWinRate(2) > 0.7);
+        assertTrue(ayo.getMarginPercentile(50) < 0);
+    }
+
+    @Test
+    public void testRun_SameSeedsGiveSameReport() {
+        SimulationReport first = new Simulator(Simulator.AYO, new RandomPolicy(5), new RandomPolicy(6)).run(50);
+        SimulationReport second = new Simulator(Simulator.AYO, new RandomPolicy(5), new RandomPolicy(6)).run(50);
+        assertEquals(first.getWins(1), second.getWins(1));
+        assertEquals(first.getAverageMoves(), second.getAverageMoves());
+        assertEquals(first.getAverageMargin(), second.getAverageMargin());
+    }
+
+    @Test
+    public void testConstructor_RejectsUnknownRules() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new Simulator("oware", new RandomPolicy(1), new RandomPolicy(2)));
+        assertThrows(IllegalArgumentException.class, () -> Simulator.policyFor("perfect", 1));
+    }
+}
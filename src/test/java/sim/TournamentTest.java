@@ -0,0 +1,83 @@
+package sim;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TournamentTest {
+
+    private static List<Entrant> entrants() {
+        return List.of(Entrant.random(), Entrant.greedy(), Entrant.alphaBeta(4));
+    }
+
+    @Test
+    public void testRun_PlaysEveryPairingFromBothSides() {
+        Tournament tournament = new Tournament(entrants(), List.of(Simulator.KALAH, Simulator.AYO), 3);
+        List<GameRecord> seen = new ArrayList<>();
+        Standings standings = tournament.run(2, 2, (record, table) -> seen.add(record));
+        assertEquals(12, tournament.getGamesPerRound());
+        assertEquals(24, seen.size());
+        assertEquals(24, standings.getGames());
+        for (int entrant = 0; entrant < 3; entrant++) {
+            assertEquals(16, standings.getGames(entrant));
+        }
+        int firstSeats = 0;
+        for (GameRecord record : seen) {
+            if (record.getEntrant(1) == 0) {
+                firstSeats++;
+            }
+            assertEquals(48, record.getStoreCount(1) + record.getStoreCount(2));
+        }
+        assertEquals(8, firstSeats);
+    }
+
+    @Test
+    public void testRun_SameRatingsOnAnyThreadCount() {
+        Tournament tournament = new Tournament(entrants(), List.of(Simulator.KALAH), 11);
+        Standings single = tournament.run(3, 1, null);
+        Standings parallel = tournament.run(3, 3, null);
+        assertArrayEquals(single.eloRatings(), parallel.eloRatings());
+        assertArrayEquals(single.glickoRatings()[0], parallel.glickoRatings()[0]);
+        assertEquals(single.toString(), parallel.toString());
+    }
+
+    @Test
+    public void testRun_SearchOutratesRandom() {
+        Tournament tournament = new Tournament(entrants(), List.of(Simulator.KALAH), 5);
+        Standings standings = tournament.run(4, null);
+        double[] elo = standings.eloRatings();
+        double[][] glicko = standings.glickoRatings();
+        assertTrue(elo[2] > elo[0]);
+        assertTrue(glicko[0][2] > glicko[0][0]);
+        assertTrue(glicko[1][2] < Standings.START_DEVIATION);
+        assertEquals(3 * Standings.START_RATING, elo[0] + elo[1] + elo[2], 1e-6);
+    }
+
+    @Test
+    public void testStandings_ScoreErrorShrinksWithGames() {
+        Standings standings = new Standings(List.of("a", "b"));
+        standings.add(new GameRecord(0, Simulator.KALAH, 0, 1, 1, 30, 18, 20));
+        standings.add(new GameRecord(0, Simulator.KALAH, 1, 0, 1, 30, 18, 20));
+        double few = standings.getScoreError(0);
+        for (int i = 0; i < 40; i++) {
+            standings.add(new GameRecord(i + 1, Simulator.KALAH, 0, 1, 1, 30, 18, 20));
+            standings.add(new GameRecord(i + 1, Simulator.KALAH, 1, 0, 1, 30, 18, 20));
+        }
+        assertEquals(0.5, standings.getScore(0));
+        assertTrue(standings.getScoreError(0) < few);
+    }
+
+    @Test
+    public void testTournament_RejectsBadSetup() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new Tournament(List.of(Entrant.random()), List.of(Simulator.KALAH), 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new Tournament(entrants(), List.of("oware"), 1));
+    }
+}